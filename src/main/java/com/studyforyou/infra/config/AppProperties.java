@@ -3,11 +3,23 @@ package com.studyforyou.infra.config;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.NotBlank;
 
 @Data
 @Component
+@Validated
 @ConfigurationProperties("app")
 public class AppProperties {
 
     private String host;
+
+    private String imageDir; // 업로드 이미지 저장 디렉토리
+
+    @NotBlank
+    private String checkinSecret; // 모임 체크인 토큰 서명 키
+
+    @NotBlank
+    private String calendarSecret; // 캘린더 구독 주소 토큰 서명 키
 }
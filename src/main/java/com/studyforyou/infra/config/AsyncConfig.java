@@ -1,6 +1,7 @@
 package com.studyforyou.infra.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -26,4 +27,15 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.initialize();
         return executor;
     }
+
+    // 썸네일 생성 전용 -> 한 스레드에서 순서대로 처리 (같은 대상의 작업이 겹치지 않고 마지막 원본의 썸네일이 남음)
+    // 알림 처리용 기본 executor 의 스레드와 큐를 차지하지 않음
+    @Bean
+    public ThreadPoolTaskExecutor thumbnailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("Thumbnail - ");
+        return executor;
+    }
 }
@@ -28,8 +28,9 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     protected void configure(HttpSecurity http) throws Exception {
         http.authorizeRequests()
                 .mvcMatchers("/", "/login", "/sign-up", "/check-email-token",
-                        "/email-login", "/login-by-email", "/search/study").permitAll()
-                .mvcMatchers(HttpMethod.GET, "/profile/*").permitAll()
+                        "/email-login", "/login-by-email", "/search/study", "/search/suggest").permitAll()
+                .mvcMatchers(HttpMethod.GET, "/profile/*", "/images/**").permitAll()
+                .mvcMatchers(HttpMethod.GET, "/study/*/events.ics", "/calendar/*").permitAll()
                 .anyRequest().authenticated();
 
         http.formLogin()
@@ -0,0 +1,64 @@
+package com.studyforyou.infra.image;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// 디코딩된 이미지 캐시 -> 전체 크기가 MAX_BYTES 를 넘으면 오래 안 쓴 것부터 밀어냄
+@Component
+public class ImageCache {
+
+    private static final long MAX_BYTES = 32 * 1024 * 1024;
+
+    private final LinkedHashMap<String, ImageData> images = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long totalBytes;
+    private long version;
+
+    // loader 가 null 을 돌려주면 (이미지 없음) 저장하지 않음
+    public ImageData get(String key, Supplier<ImageData> loader) {
+        long loadingVersion;
+        synchronized (this) {
+            ImageData cached = images.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            loadingVersion = version;
+        }
+
+        ImageData loaded = loader.get();
+
+        synchronized (this) {
+            if (loaded != null && version == loadingVersion) { // 조회 중에 비워졌으면 저장하지 않음
+                put(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    public synchronized void evict(String key) {
+        version++;
+        ImageData removed = images.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.getBytes().length;
+        }
+    }
+
+    private void put(String key, ImageData image) {
+        if (image.getBytes().length > MAX_BYTES) {
+            return;
+        }
+
+        ImageData previous = images.put(key, image);
+        totalBytes += image.getBytes().length - (previous == null ? 0 : previous.getBytes().length);
+
+        Iterator<Map.Entry<String, ImageData>> eldest = images.entrySet().iterator();
+        while (totalBytes > MAX_BYTES && eldest.hasNext()) {
+            totalBytes -= eldest.next().getValue().getBytes().length;
+            eldest.remove();
+        }
+    }
+}
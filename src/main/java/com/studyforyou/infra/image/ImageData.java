@@ -0,0 +1,99 @@
+package com.studyforyou.infra.image;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+
+// 디코딩된 이미지 -> ETag 는 내용의 SHA-256
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ImageData {
+
+    private static final String DATA_URI_PREFIX = "data:";
+    private static final String BASE64_MARKER = ";base64,";
+
+    // ImageIO 포맷 이름 -> 응답에 내려도 되는 content type
+    private static final Map<String, String> IMAGE_FORMATS = Map.of(
+            "png", "image/png",
+            "jpeg", "image/jpeg",
+            "gif", "image/gif");
+
+    private final String contentType;
+
+    private final byte[] bytes;
+
+    private final String etag;
+
+    public static ImageData of(String contentType, byte[] bytes) {
+        return new ImageData(contentType, bytes, "\"" + sha256(bytes) + "\"");
+    }
+
+    public static boolean isDataUri(String value) {
+        return value != null && value.startsWith(DATA_URI_PREFIX);
+    }
+
+    // "data:image/png;base64,iVBOR..." -> image/png, 디코딩된 바이트
+    public static ImageData fromDataUri(String dataUri) {
+        int marker = isDataUri(dataUri) ? dataUri.indexOf(BASE64_MARKER) : -1;
+        if (marker < 0) {
+            throw new IllegalArgumentException("base64 data URI 가 아닙니다.");
+        }
+
+        String contentType = dataUri.substring(DATA_URI_PREFIX.length(), marker);
+        byte[] bytes = Base64.getMimeDecoder().decode(dataUri.substring(marker + BASE64_MARKER.length()).getBytes(StandardCharsets.US_ASCII));
+        return of(contentType.isEmpty() ? "application/octet-stream" : contentType, bytes);
+    }
+
+    // 선언된 타입은 믿지 않고 바이트를 읽어 PNG, JPEG, GIF 인 경우만 -> 아니면 null
+    public static ImageData imageFromDataUri(String dataUri) {
+        try {
+            byte[] bytes = fromDataUri(dataUri).getBytes();
+            String contentType = sniffContentType(bytes);
+            return contentType == null ? null : of(contentType, bytes);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public static boolean isSupportedContentType(String contentType) {
+        return IMAGE_FORMATS.containsValue(contentType);
+    }
+
+    public static String sniffContentType(byte[] bytes) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            return IMAGE_FORMATS.get(readers.next().getFormatName().toLowerCase(Locale.ROOT));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    public static String sha256(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
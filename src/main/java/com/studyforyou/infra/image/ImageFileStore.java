@@ -0,0 +1,107 @@
+package com.studyforyou.infra.image;
+
+import com.studyforyou.infra.config.AppProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 내용의 SHA-256 을 이름으로 하는 로컬 디스크 저장소 -> {imageDir}/ab/abcdef...
+// 같은 내용은 같은 파일이므로 이미 있으면 다시 쓰지 않는다
+@Component
+@RequiredArgsConstructor
+public class ImageFileStore {
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+    private final AppProperties appProperties;
+
+    public void write(String hash, byte[] bytes) {
+        Path path = path(hash);
+        if (Files.exists(path)) {
+            touch(path); // 다시 쓰인 파일이 오래된 고아 파일로 지워지지 않도록
+            return;
+        }
+
+        try {
+            Files.createDirectories(path.getParent());
+            Path temp = Files.createTempFile(path.getParent(), hash, ".tmp");
+            Files.write(temp, bytes);
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 파일이 없으면 null
+    public byte[] read(String hash) {
+        try {
+            return Files.readAllBytes(path(hash));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(String hash) {
+        try {
+            Files.deleteIfExists(path(hash));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // before 이전에 쓰여진 파일의 hash 목록
+    public List<String> findHashesWrittenBefore(Instant before) {
+        Path root = root();
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.walk(root, 2)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(file -> HASH.matcher(file.getFileName().toString()).matches())
+                    .filter(file -> lastModified(file).isBefore(before))
+                    .map(file -> file.getFileName().toString())
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void touch(Path path) {
+        try {
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Instant lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant();
+        } catch (IOException e) {
+            return Instant.MAX; // 그 사이 지워진 파일은 건너뜀
+        }
+    }
+
+    private Path path(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            throw new IllegalArgumentException("잘못된 이미지 hash 입니다.");
+        }
+        return root().resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private Path root() {
+        return Paths.get(appProperties.getImageDir());
+    }
+}
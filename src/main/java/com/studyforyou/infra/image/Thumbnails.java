@@ -0,0 +1,86 @@
+package com.studyforyou.infra.image;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+// javax.imageio 로 비율을 유지한 채 maxWidth x maxHeight 안에 들어오게 줄인 JPEG 생성
+public final class Thumbnails {
+
+    private static final String FORMAT = "jpg";
+    private static final String CONTENT_TYPE = "image/jpeg";
+
+    // 디코딩하면 픽셀당 4 byte 이상 -> 작은 파일도 가로, 세로가 크면 메모리를 다 쓸 수 있으므로 읽기 전에 크기로 거름
+    public static final long MAX_PIXELS = 25_000_000L;
+
+    private Thumbnails() {
+    }
+
+    // 읽을 수 없거나 MAX_PIXELS 보다 큰 이미지면 null
+    public static ImageData create(byte[] original, int maxWidth, int maxHeight) throws IOException {
+        BufferedImage source = read(original);
+        if (source == null) {
+            return null;
+        }
+
+        double scale = Math.min(1.0, Math.min((double) maxWidth / source.getWidth(), (double) maxHeight / source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage scaled = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do { // 한 번에 크게 줄이면 깨지므로 절반씩 줄여 나감
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            scaled = draw(scaled, currentWidth, currentHeight);
+        } while (currentWidth != width || currentHeight != height);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(scaled, FORMAT, out);
+        return ImageData.of(CONTENT_TYPE, out.toByteArray());
+    }
+
+    // 헤더의 가로, 세로만 먼저 읽고 픽셀 수가 넘지 않을 때만 디코딩
+    private static BufferedImage read(byte[] original) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(original))) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // JPEG 는 알파 채널이 없으므로 흰 배경의 RGB 이미지에 그린다
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
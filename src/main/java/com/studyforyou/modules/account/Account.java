@@ -46,6 +46,12 @@ public class Account {
     @Lob // Text 로 입력가능
     private String profileImage;
 
+    @Lob
+    @Column(insertable = false, updatable = false) // 썸네일 생성 후 update 쿼리로만 저장
+    private String profileImageThumbnail;
+
+    private String calendarFeedKey; // 캘린더 구독 주소 서명에 넣는 값 -> 바꾸면 예전 주소는 쓸 수 없음
+
     private boolean studyCreatedByEmail;
 
     private boolean studyCreatedByWeb;
@@ -69,6 +75,10 @@ public class Account {
         this.emailCheckTokenGeneratedAt = LocalDateTime.now();
     }
 
+    public void resetCalendarFeedKey() {
+        this.calendarFeedKey = UUID.randomUUID().toString();
+    }
+
     public void completeSignUp() {
         this.emailVerified = true;
         this.joinedAt = LocalDateTime.now();
@@ -0,0 +1,57 @@
+package com.studyforyou.modules.account;
+
+import com.studyforyou.modules.image.ImageOwner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 계정 프로필 이미지 -> /images/account/{id}
+@Component
+@RequiredArgsConstructor
+public class AccountImageOwner implements ImageOwner {
+
+    public static final String TYPE = "account";
+
+    private final AccountRepository accountRepository;
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public int getThumbnailWidth() {
+        return 128;
+    }
+
+    @Override
+    public int getThumbnailHeight() {
+        return 128;
+    }
+
+    @Override
+    public String findImage(Long id) {
+        return accountRepository.findProfileImageById(id);
+    }
+
+    @Override
+    public String findThumbnail(Long id) {
+        return accountRepository.findProfileImageThumbnailById(id);
+    }
+
+    @Override
+    public void updateImage(Long id, String image) {
+        accountRepository.findById(id).orElseThrow().setProfileImage(image);
+    }
+
+    @Override
+    public void updateThumbnail(Long id, String thumbnail) {
+        accountRepository.updateProfileImageThumbnail(id, thumbnail);
+    }
+
+    @Override
+    public List<Long> findIdsWithDataUriImage() {
+        return accountRepository.findIdsWithDataUriProfileImage();
+    }
+}
@@ -2,9 +2,13 @@ package com.studyforyou.modules.account;
 
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 
 @Transactional(readOnly = true)
 public interface AccountRepository extends JpaRepository<Account, Long> , QuerydslPredicateExecutor<Account> {
@@ -20,4 +24,18 @@ public interface AccountRepository extends JpaRepository<Account, Long> , Queryd
     @EntityGraph(attributePaths = {"tags","zones"})
     Account findAccountWithTagsAndZonesById(Long id);
 
+    @Query("select a.profileImage from Account a where a.id = :id")
+    String findProfileImageById(@Param("id") Long id);
+
+    @Query("select a.profileImageThumbnail from Account a where a.id = :id")
+    String findProfileImageThumbnailById(@Param("id") Long id);
+
+    @Query("select a.id from Account a where a.profileImage like 'data:%' or a.profileImageThumbnail like 'data:%'")
+    List<Long> findIdsWithDataUriProfileImage();
+
+    @Transactional
+    @Modifying
+    @Query("update Account a set a.profileImageThumbnail = :thumbnail where a.id = :id")
+    int updateProfileImageThumbnail(@Param("id") Long id, @Param("thumbnail") String thumbnail);
+
 }
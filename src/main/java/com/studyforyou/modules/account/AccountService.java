@@ -2,6 +2,8 @@ package com.studyforyou.modules.account;
 
 import com.studyforyou.infra.config.AppProperties;
 import com.studyforyou.modules.account.settings.PasswordForm;
+import com.studyforyou.modules.image.ImageBlobService;
+import com.studyforyou.modules.image.ImageUpdatedEvent;
 import com.studyforyou.modules.tag.Tag;
 import com.studyforyou.modules.zone.Zone;
 import com.studyforyou.infra.mail.EmailMessage;
@@ -12,6 +14,7 @@ import com.studyforyou.modules.account.settings.Profile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
@@ -43,6 +46,8 @@ public class AccountService implements UserDetailsService {
     private final ModelMapper modelMapper;
     private final TemplateEngine templateEngine;
     private final AppProperties appProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImageBlobService imageBlobService;
 
 
     public Account processNewAccount(SignUpForm signUpForm) {
@@ -94,8 +99,11 @@ public class AccountService implements UserDetailsService {
     }
 
     public void completeProfileUpdate(Account account, Profile profile) {
+        String profileImage = imageBlobService.replace(account.getProfileImage(), profile.getProfileImage());
         account.profileUpdate(profile);
+        account.setProfileImage(profileImage);
         accountRepository.save(account);
+        eventPublisher.publishEvent(new ImageUpdatedEvent(AccountImageOwner.TYPE, account.getId()));
     }
 
     @Override
@@ -122,6 +130,11 @@ public class AccountService implements UserDetailsService {
         accountRepository.save(account);
     }
 
+    public void resetCalendarFeedKey(Account account) {
+        account.resetCalendarFeedKey();
+        accountRepository.save(account);
+    }
+
     public void updateNotifications(Account account, Notifications notifications) {
         account.notificationsUpdate(notifications);
         accountRepository.save(account);
@@ -1,6 +1,7 @@
 package com.studyforyou.modules.account.settings;
 
 import com.studyforyou.modules.account.Account;
+import com.studyforyou.modules.image.ImageUpload;
 import lombok.Data;
 import org.hibernate.validator.constraints.Length;
 import org.hibernate.validator.constraints.URL;
@@ -20,7 +21,7 @@ public class Profile {
 
     private String location;
 
-
+    @ImageUpload
     private String profileImage;
 
 
@@ -0,0 +1,33 @@
+package com.studyforyou.modules.event;
+
+import com.studyforyou.infra.config.AppProperties;
+import com.studyforyou.modules.account.Account;
+import com.studyforyou.modules.account.AccountRepository;
+import org.springframework.stereotype.Component;
+
+// 계정 id 로 만든 캘린더 구독 주소 토큰 -> 로그인 세션이 없는 캘린더 앱에서 본인 일정 조회
+// 계정의 calendarFeedKey 를 같이 서명 -> 주소가 새면 key 를 바꿔서 예전 주소를 막음
+@Component
+public class CalendarFeedToken {
+
+    private final SignedIdToken signedIdToken;
+    private final AccountRepository accountRepository;
+
+    public CalendarFeedToken(AppProperties appProperties, AccountRepository accountRepository) {
+        this.signedIdToken = new SignedIdToken(appProperties.getCalendarSecret(), "calendar");
+        this.accountRepository = accountRepository;
+    }
+
+    public String create(Account account) {
+        return signedIdToken.create(account.getId(), key(account));
+    }
+
+    // 서명이 맞지 않거나 없는 계정이면 null
+    public Long verify(String token) {
+        return signedIdToken.verify(token, id -> accountRepository.findById(id).map(this::key).orElse(null));
+    }
+
+    private String key(Account account) {
+        return account.getCalendarFeedKey() == null ? "" : account.getCalendarFeedKey();
+    }
+}
@@ -0,0 +1,9 @@
+package com.studyforyou.modules.event;
+
+import lombok.Data;
+
+@Data
+public class CheckinForm {
+
+    private String token;
+}
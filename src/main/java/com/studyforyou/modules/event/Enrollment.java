@@ -6,12 +6,10 @@ import lombok.*;
 import javax.persistence.*;
 import java.time.LocalDateTime;
 
-@NamedEntityGraph(name = "enrollmentEventAndStudySubGraph",
-        attributeNodes = @NamedAttributeNode(value = "event", subgraph = "event"),
-    subgraphs = @NamedSubgraph(name = "event", attributeNodes = @NamedAttributeNode("study")))
-
-
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"event_id", "account_id"}), // 한 계정은 모임에 한 번만 신청
+        indexes = {@Index(name = "idx_enrollment_event_waiting", columnList = "event_id, accepted, enrolledAt"),
+                @Index(name = "idx_enrollment_account_accepted", columnList = "account_id, accepted, event_id")})
 @Getter
 @Setter
 @EqualsAndHashCode(of = "id")
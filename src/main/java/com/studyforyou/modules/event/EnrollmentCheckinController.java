@@ -0,0 +1,33 @@
+package com.studyforyou.modules.event;
+
+import com.studyforyou.modules.account.Account;
+import com.studyforyou.modules.account.CurrentAccount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.Map;
+
+// 모임 당일 관리자가 참가자의 체크인 토큰을 스캔해서 출석 처리
+@Controller
+@RequiredArgsConstructor
+public class EnrollmentCheckinController {
+
+    private final EventService eventService;
+    private final EnrollmentCheckinToken enrollmentCheckinToken;
+
+    @PostMapping("/enrollments/checkin")
+    @ResponseBody
+    public ResponseEntity<Map<String, Boolean>> checkin(@CurrentAccount Account account, @RequestBody CheckinForm checkinForm) {
+
+        Long enrollmentId = enrollmentCheckinToken.verify(checkinForm.getToken());
+        if (enrollmentId == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(Map.of("checkedIn", eventService.checkinByToken(account, enrollmentId)));
+    }
+}
@@ -0,0 +1,24 @@
+package com.studyforyou.modules.event;
+
+import com.studyforyou.infra.config.AppProperties;
+import org.springframework.stereotype.Component;
+
+// 참가 신청 id 로 만든 체크인 토큰
+@Component
+public class EnrollmentCheckinToken {
+
+    private final SignedIdToken signedIdToken;
+
+    public EnrollmentCheckinToken(AppProperties appProperties) {
+        this.signedIdToken = new SignedIdToken(appProperties.getCheckinSecret(), "enrollment");
+    }
+
+    public String create(Long enrollmentId) {
+        return signedIdToken.create(enrollmentId);
+    }
+
+    // 서명이 맞지 않으면 null
+    public Long verify(String token) {
+        return signedIdToken.verify(token);
+    }
+}
@@ -0,0 +1,25 @@
+package com.studyforyou.modules.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 시작 시 참가 신청 기준으로 모임의 확정, 대기 인원을 맞춤 (값이 다른 모임만 갱신)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EnrollmentCountBackfill {
+
+    private final EventRepository eventRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int updated = eventRepository.recalculateEnrollmentCounts();
+
+        if (updated > 0) {
+            log.info("모임 확정, 대기 인원 재계산 : {} 건", updated);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.studyforyou.modules.event;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 참가자 명단 CSV 한 줄 -> 엔티티로 만들지 않고 필요한 컬럼만 스트림으로 조회
+@Getter
+public class EnrollmentCsvRow {
+
+    private final String nickname;
+
+    private final String email;
+
+    private final LocalDateTime enrolledAt;
+
+    private final boolean accepted;
+
+    private final boolean attended;
+
+    public EnrollmentCsvRow(String nickname, String email, LocalDateTime enrolledAt, boolean accepted, boolean attended) {
+        this.nickname = nickname;
+        this.email = email;
+        this.enrolledAt = enrolledAt;
+        this.accepted = accepted;
+        this.attended = attended;
+    }
+}
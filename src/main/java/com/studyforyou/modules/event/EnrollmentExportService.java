@@ -0,0 +1,63 @@
+package com.studyforyou.modules.event;
+
+import com.studyforyou.modules.study.Study;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// 참가자 명단 CSV (RFC 4180) -> 한 줄씩 읽으면서 바로 응답에 써서 신청자 수와 관계없이 메모리 일정
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class EnrollmentExportService {
+
+    private static final String HEADER = "nickname,email,enrolledAt,accepted,attended";
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final EnrollmentRepository enrollmentRepository;
+
+    public void writeEnrollmentsCsv(Study study, Long eventId, Writer writer) throws IOException {
+        writer.write('\uFEFF'); // 엑셀에서 UTF-8 로 열리도록 BOM
+        writer.write(HEADER + "\r\n");
+        try (Stream<EnrollmentCsvRow> rows = enrollmentRepository.streamCsvRowsByEvent(study, eventId)) {
+            Iterator<EnrollmentCsvRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writeRow(iterator.next(), writer);
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeRow(EnrollmentCsvRow row, Writer writer) throws IOException {
+        writer.write(field(row.getNickname()));
+        writer.write(',');
+        writer.write(field(row.getEmail()));
+        writer.write(',');
+        writer.write(row.getEnrolledAt() == null ? "" : row.getEnrolledAt().format(DATE_TIME_FORMAT));
+        writer.write(',');
+        writer.write(String.valueOf(row.isAccepted()));
+        writer.write(',');
+        writer.write(String.valueOf(row.isAttended()));
+        writer.write("\r\n");
+    }
+
+    // 쉼표, 따옴표, 줄바꿈은 따옴표로 감싸고 수식으로 해석되는 첫 글자(= + - @)는 ' 를 붙임
+    private String field(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        if ("=+-@".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
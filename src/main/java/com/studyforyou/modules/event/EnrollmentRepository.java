@@ -1,11 +1,23 @@
 package com.studyforyou.modules.event;
 
 import com.studyforyou.modules.account.Account;
+import com.studyforyou.modules.study.Study;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Transactional(readOnly = true)
 public interface EnrollmentRepository extends JpaRepository<Enrollment,Long> {
@@ -14,6 +26,71 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment,Long> {
 
     Enrollment findByEventAndAccount(Event event, Account account);
 
-    @EntityGraph(value = "enrollmentEventAndStudySubGraph")
-    List<Enrollment> findEnrollmentWithEventAndStudyByAccepted(boolean accepted);
+    long countByEventAndAccepted(Event event, boolean accepted);
+
+    // (event, accepted, enrolledAt) 인덱스 순서로 앞쪽 대기자만 조회
+    @Query("select en.id from Enrollment en where en.event = :event and en.accepted = false order by en.enrolledAt, en.id")
+    List<Long> findWaitingIds(@Param("event") Event event, Pageable pageable);
+
+    @Query("select count(en) from Enrollment en where en.event = :event and en.accepted = false " +
+            "and (en.enrolledAt < :enrolledAt or (en.enrolledAt = :enrolledAt and en.id < :id))")
+    long countWaitingBefore(@Param("event") Event event, @Param("enrolledAt") LocalDateTime enrolledAt, @Param("id") Long id);
+
+    @Query("select en.id from Enrollment en where en.event = :event and en.id in :ids and en.accepted = :accepted " +
+            "order by en.enrolledAt, en.id")
+    List<Long> findIdsByAccepted(@Param("event") Event event, @Param("ids") Collection<Long> ids,
+                                 @Param("accepted") boolean accepted, Pageable pageable);
+
+    @EntityGraph(attributePaths = "account")
+    List<Enrollment> findWithAccountByIdIn(Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("update Enrollment en set en.accepted = true where en.id in :ids")
+    int acceptAll(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("update Enrollment en set en.accepted = false where en.id in :ids")
+    int rejectAll(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("update Enrollment en set en.attended = true " +
+            "where en.event = :event and en.id in :ids and en.accepted = true and en.attended = false")
+    int checkinAll(@Param("event") Event event, @Param("ids") Collection<Long> ids);
+
+    // 체크인 토큰용 -> 해당 모임 스터디의 관리자일 때만 한 번의 update 로 출석 처리
+    @Transactional
+    @Modifying
+    @Query("update Enrollment en set en.attended = true " +
+            "where en.id = :id and en.accepted = true and en.attended = false " +
+            "and exists (select e.id from Event e join e.study s join s.managers m where e = en.event and m.id = :managerId)")
+    int checkinByManager(@Param("id") Long id, @Param("managerId") Long managerId);
+
+    // 로그인 홈 화면의 참석할 모임 -> (account, accepted, event) 인덱스로 본인의 확정 신청만 찾고 끝나지 않은 모임을 시작 순으로 제한 조회
+    @Query("select en from Enrollment en join fetch en.event e join fetch e.study " +
+            "where en.account = :account and en.accepted = true and e.endDateTime > :now " +
+            "order by e.startDateTime, e.id")
+    List<Enrollment> findUpcomingAcceptedByAccount(@Param("account") Account account, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 계정 캘린더 피드 -> 확정된 참가 신청의 모임을 한 줄씩 스트림으로 조회
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "100"))
+    @Query("select new com.studyforyou.modules.event.EventCalendarRow(e.id, e.title, e.startDateTime, e.endDateTime, " +
+            "coalesce(e.updatedDateTime, e.createdDateTime), s.path, s.title) " +
+            "from Enrollment en join en.event e join e.study s " +
+            "where en.account.id = :accountId and en.accepted = true order by e.startDateTime, e.id")
+    Stream<EventCalendarRow> streamCalendarRowsByAccount(@Param("accountId") Long accountId);
+
+    // 확정, 취소, 거절로 목록이 바뀌면 개수나 신청 id 합계가 달라짐
+    @Query("select new com.studyforyou.modules.event.EventCalendarVersion(count(en), max(coalesce(e.updatedDateTime, e.createdDateTime)), sum(en.id)) " +
+            "from Enrollment en join en.event e where en.account.id = :accountId and en.accepted = true")
+    EventCalendarVersion findCalendarVersionByAccount(@Param("accountId") Long accountId);
+
+    // 참가자 명단 CSV -> 스터디의 모임인지 함께 확인하고 신청 순서대로 한 줄씩 조회
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.studyforyou.modules.event.EnrollmentCsvRow(a.nickname, a.email, en.enrolledAt, en.accepted, en.attended) " +
+            "from Enrollment en join en.account a join en.event e " +
+            "where e.id = :eventId and e.study = :study order by en.enrolledAt, en.id")
+    Stream<EnrollmentCsvRow> streamCsvRowsByEvent(@Param("study") Study study, @Param("eventId") Long eventId);
 }
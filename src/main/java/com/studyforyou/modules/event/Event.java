@@ -5,13 +5,15 @@ import com.studyforyou.modules.account.Account;
 import com.studyforyou.modules.account.UserAccount;
 import com.studyforyou.modules.study.Study;
 import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.ColumnDefault;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @NamedEntityGraph(name = "eventJoin", attributeNodes = {
         @NamedAttributeNode("enrollments")
@@ -19,6 +21,7 @@ import java.util.stream.Collectors;
 
 
 @Entity
+@Table(indexes = @Index(name = "idx_event_study_end", columnList = "study_id, endDateTime"))
 @Getter
 @Setter
 @EqualsAndHashCode(of = "id")
@@ -47,6 +50,8 @@ public class Event {
     @Column(nullable = false)
     private LocalDateTime createdDateTime;
 
+    private LocalDateTime updatedDateTime; // 마지막 수정 시간 -> 캘린더 피드 Last-Modified
+
     @Column(nullable = false)
     private LocalDateTime endEnrollmentDateTime;
 
@@ -58,10 +63,23 @@ public class Event {
 
     private Integer limitOfEnrollments;
 
+    // 확정, 대기 인원 -> 참가 신청 목록을 읽지 않고 남은 자리를 계산하기 위해 신청, 취소, 확정, 거절 시 함께 갱신
+    @ColumnDefault("0")
+    private int acceptedCount;
+
+    @ColumnDefault("0")
+    private int waitingCount;
+
     @OneToMany(mappedBy = "event",cascade = CascadeType.REMOVE)
     @OrderBy(value = "enrolledAt")
     private List<Enrollment> enrollments = new ArrayList<>();
 
+    // 계정 id -> 참가 신청, 처음 확인할 때 한 번 만들고 신청, 취소, 다시 읽을 때 비움
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Map<Long, Enrollment> enrollmentsByAccountId;
+
     public boolean isEnrollableFor(UserAccount userAccount) {
 
         if (!isNotEndEnrollmentTime() && !isEnrollment(userAccount) && !isAttended(userAccount)) {
@@ -80,10 +98,10 @@ public class Event {
 
     public boolean isAttended(UserAccount userAccount) {
 
-        Optional<Enrollment> optional = enrollments.stream().filter(enrollment -> enrollment.getAccount().equals(userAccount.getAccount())).findAny();
+        Enrollment enrollment = getEnrollmentOf(userAccount.getAccount());
 
-        if (optional.isPresent()) {
-            return optional.get().isAttended();
+        if (enrollment != null) {
+            return enrollment.isAttended();
         }
         return false;
     }
@@ -93,15 +111,24 @@ public class Event {
     }
 
     private boolean isEnrollment(UserAccount userAccount) {
-        return enrollments.stream().anyMatch(enrollment -> enrollment.getAccount().equals(userAccount.getAccount()));
+        return getEnrollmentOf(userAccount.getAccount()) != null;
     }
 
-    public int numberOfRemainSpots() {
-        return limitOfEnrollments - (int) getAcceptedCount();
+    private Enrollment getEnrollmentOf(Account account) {
+        if (enrollmentsByAccountId == null) {
+            enrollmentsByAccountId = new HashMap<>();
+            enrollments.forEach(enrollment -> enrollmentsByAccountId.put(enrollment.getAccount().getId(), enrollment));
+        }
+        return enrollmentsByAccountId.get(account.getId());
     }
 
-    public long getAcceptedCount() {
-        return enrollments.stream().filter(enrollment -> enrollment.isAccepted()).count();
+    @PostLoad
+    private void clearEnrollmentsByAccountId() { // refresh 로 참가 신청 목록을 다시 읽는 경우 포함
+        enrollmentsByAccountId = null;
+    }
+
+    public int numberOfRemainSpots() {
+        return limitOfEnrollments - acceptedCount;
     }
 
     public boolean isAcceptable(Enrollment enrollment) {
@@ -122,47 +149,67 @@ public class Event {
     public void addEnrollment(Enrollment enrollment) {
         enrollment.setEvent(this);
         enrollments.add(enrollment);
+        if (enrollmentsByAccountId != null) {
+            enrollmentsByAccountId.put(enrollment.getAccount().getId(), enrollment);
+        }
+        if (enrollment.isAccepted()) {
+            acceptedCount++;
+        } else {
+            waitingCount++;
+        }
     }
 
-
-    public List<Enrollment> getWaitingList() {
-        return enrollments.stream().filter(enrollment -> !enrollment.isAccepted()).collect(Collectors.toList());
+    // 선착순 모임에서 지금 확정할 수 있는 대기자 수
+    public int numberOfWaitingToAccept() {
+        return isAbleToAcceptFCFS() ? Math.min(numberOfRemainSpots(), waitingCount) : 0;
     }
 
-    public void acceptWaitingEnrollment() {
-
-        if (isAbleToAcceptFCFS()) {
-            List<Enrollment> waitingList = getWaitingList();
-            int count = Math.min(numberOfRemainSpots(), waitingList.size());
-            waitingList.subList(0, count).forEach(enrollment -> enrollment.setAccepted(true));
-        }
-
+    // 대기자 확정을 bulk update 로 처리한 뒤 인원 수만 맞춤
+    public void acceptedFromWaitingList(int count) {
+        acceptedCount += count;
+        waitingCount -= count;
     }
 
-    public void acceptNextWaitingEnrollment() {
-        if (isAbleToAcceptFCFS()) {
-            if (!getWaitingList().isEmpty()) {
-                Enrollment enrollment = getWaitingList().get(0);
-                enrollment.setAccepted(true);
-            }
-        }
+    public void rejectedToWaitingList(int count) {
+        acceptedCount -= count;
+        waitingCount += count;
     }
 
     public void removeEnrollment(Enrollment enrollment) {
-        enrollments.remove(enrollment);
+        if (Hibernate.isInitialized(enrollments)) { // 목록을 읽지 않았으면 전체를 불러오지 않음
+            enrollments.remove(enrollment);
+        }
         enrollment.setEvent(null);
+        if (enrollmentsByAccountId != null) {
+            enrollmentsByAccountId.remove(enrollment.getAccount().getId());
+        }
+        if (enrollment.isAccepted()) {
+            acceptedCount--;
+        } else {
+            waitingCount--;
+        }
     }
 
 
     public void acceptEnrollment(Enrollment enrollment) {
         if (isAbleToAcceptCONFIMATIVE()) {
-            enrollment.setAccepted(true);
+            accept(enrollment);
         }
     }
 
     public void rejectEnrollment(Enrollment enrollment) {
-        if (eventType == EventType.CONFIRMATIVE) {
+        if (eventType == EventType.CONFIRMATIVE && enrollment.isAccepted()) {
             enrollment.setAccepted(false);
+            acceptedCount--;
+            waitingCount++;
+        }
+    }
+
+    private void accept(Enrollment enrollment) {
+        if (!enrollment.isAccepted()) {
+            enrollment.setAccepted(true);
+            acceptedCount++;
+            waitingCount--;
         }
     }
 
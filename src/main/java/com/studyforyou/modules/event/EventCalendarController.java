@@ -0,0 +1,68 @@
+package com.studyforyou.modules.event;
+
+import com.studyforyou.modules.account.Account;
+import com.studyforyou.modules.account.AccountService;
+import com.studyforyou.modules.account.CurrentAccount;
+import com.studyforyou.modules.study.Study;
+import com.studyforyou.modules.study.StudyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+// 캘린더 앱 구독용 -> ETag, Last-Modified 가 같으면 모임을 읽지 않고 304
+@Controller
+@RequiredArgsConstructor
+public class EventCalendarController {
+
+    private static final String CALENDAR_CONTENT_TYPE = "text/calendar;charset=UTF-8";
+
+    private final StudyService studyService;
+    private final EventCalendarService eventCalendarService;
+    private final CalendarFeedToken calendarFeedToken;
+    private final AccountService accountService;
+
+    @GetMapping("/study/{path}/events.ics")
+    public void studyCalendar(@PathVariable String path, ServletWebRequest request, HttpServletResponse response) throws IOException {
+        Study study = studyService.getStudy(path);
+        if (!study.isPublished()) {
+            throw new IllegalArgumentException(path + " 스터디는 공개되지 않았습니다.");
+        }
+
+        EventCalendarVersion version = eventCalendarService.getStudyCalendarVersion(study);
+        if (request.checkNotModified(version.getEtag(), version.getLastModifiedMillis())) {
+            return;
+        }
+
+        response.setContentType(CALENDAR_CONTENT_TYPE);
+        eventCalendarService.writeStudyCalendar(study, response.getWriter());
+    }
+
+    @GetMapping("/calendar/{token}.ics")
+    public void accountCalendar(@PathVariable String token, ServletWebRequest request, HttpServletResponse response) throws IOException {
+        Long accountId = calendarFeedToken.verify(token);
+        if (accountId == null) {
+            throw new IllegalArgumentException("잘못된 캘린더 주소 입니다.");
+        }
+
+        EventCalendarVersion version = eventCalendarService.getAccountCalendarVersion(accountId);
+        if (request.checkNotModified(version.getEtag(), version.getLastModifiedMillis())) {
+            return;
+        }
+
+        response.setContentType(CALENDAR_CONTENT_TYPE);
+        eventCalendarService.writeAccountCalendar(accountId, response.getWriter());
+    }
+
+    // 구독 주소를 새로 만듦 -> 예전 주소는 더 이상 조회되지 않음
+    @PostMapping("/calendar/reset")
+    public String resetAccountCalendar(@CurrentAccount Account account) {
+        accountService.resetCalendarFeedKey(account);
+        return "redirect:/";
+    }
+}
@@ -0,0 +1,35 @@
+package com.studyforyou.modules.event;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 캘린더 피드 한 줄 -> 엔티티로 만들지 않고 필요한 컬럼만 스트림으로 조회
+@Getter
+public class EventCalendarRow {
+
+    private final Long id;
+
+    private final String title;
+
+    private final LocalDateTime startDateTime;
+
+    private final LocalDateTime endDateTime;
+
+    private final LocalDateTime lastModified;
+
+    private final String studyPath;
+
+    private final String studyTitle;
+
+    public EventCalendarRow(Long id, String title, LocalDateTime startDateTime, LocalDateTime endDateTime,
+                            LocalDateTime lastModified, String studyPath, String studyTitle) {
+        this.id = id;
+        this.title = title;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.lastModified = lastModified;
+        this.studyPath = studyPath;
+        this.studyTitle = studyTitle;
+    }
+}
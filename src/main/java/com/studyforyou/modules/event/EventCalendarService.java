@@ -0,0 +1,109 @@
+package com.studyforyou.modules.event;
+
+import com.studyforyou.infra.config.AppProperties;
+import com.studyforyou.modules.study.Study;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// iCalendar (RFC 5545) 피드 -> 모임을 한 줄씩 읽으면서 바로 응답에 씀
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class EventCalendarService {
+
+    private static final DateTimeFormatter UTC_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final EventRepository eventRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final AppProperties appProperties;
+
+    public EventCalendarVersion getStudyCalendarVersion(Study study) {
+        return eventRepository.findCalendarVersionByStudy(study);
+    }
+
+    public EventCalendarVersion getAccountCalendarVersion(Long accountId) {
+        return enrollmentRepository.findCalendarVersionByAccount(accountId);
+    }
+
+    public void writeStudyCalendar(Study study, Writer writer) throws IOException {
+        try (Stream<EventCalendarRow> rows = eventRepository.streamCalendarRowsByStudy(study)) {
+            writeCalendar(study.getTitle(), rows, writer);
+        }
+    }
+
+    public void writeAccountCalendar(Long accountId, Writer writer) throws IOException {
+        try (Stream<EventCalendarRow> rows = enrollmentRepository.streamCalendarRowsByAccount(accountId)) {
+            writeCalendar("StudyForYou 참석할 모임", rows, writer);
+        }
+    }
+
+    private void writeCalendar(String name, Stream<EventCalendarRow> rows, Writer writer) throws IOException {
+        writeLine(writer, "BEGIN:VCALENDAR");
+        writeLine(writer, "VERSION:2.0");
+        writeLine(writer, "PRODID:-//StudyForYou//Events//KO");
+        writeLine(writer, "CALSCALE:GREGORIAN");
+        writeLine(writer, "X-WR-CALNAME:" + escape(name));
+        Iterator<EventCalendarRow> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            writeEvent(iterator.next(), writer);
+        }
+        writeLine(writer, "END:VCALENDAR");
+        writer.flush();
+    }
+
+    private void writeEvent(EventCalendarRow row, Writer writer) throws IOException {
+        String url = appProperties.getHost() + "/study/" + UriUtils.encodePathSegment(row.getStudyPath(), StandardCharsets.UTF_8)
+                + "/events/" + row.getId();
+        writeLine(writer, "BEGIN:VEVENT");
+        writeLine(writer, "UID:event-" + row.getId() + "@studyforyou");
+        writeLine(writer, "DTSTAMP:" + utc(row.getLastModified()));
+        writeLine(writer, "LAST-MODIFIED:" + utc(row.getLastModified()));
+        writeLine(writer, "DTSTART:" + utc(row.getStartDateTime()));
+        writeLine(writer, "DTEND:" + utc(row.getEndDateTime()));
+        writeLine(writer, "SUMMARY:" + escape(row.getTitle()));
+        writeLine(writer, "DESCRIPTION:" + escape(row.getStudyTitle() + "\n" + url));
+        writeLine(writer, "URL:" + url);
+        writeLine(writer, "END:VEVENT");
+    }
+
+    private String utc(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC).format(UTC_FORMAT);
+    }
+
+    private String escape(String text) {
+        return text.replace("\\", "\\\\").replace(";", "\\;").replace(",", "\\,")
+                .replace("\r\n", "\\n").replace("\n", "\\n").replace("\r", "\\n");
+    }
+
+    // 한 줄은 75 octet 까지, 넘으면 CRLF + 공백으로 접음 (UTF-8 문자 중간에서 자르지 않음)
+    private void writeLine(Writer writer, String line) throws IOException {
+        int octets = 0;
+        int i = 0;
+        while (i < line.length()) {
+            int codePoint = line.codePointAt(i);
+            int length = Character.charCount(codePoint);
+            int size = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (octets + size > MAX_LINE_OCTETS) {
+                writer.write("\r\n ");
+                octets = 1;
+            }
+            writer.write(line, i, length);
+            octets += size;
+            i += length;
+        }
+        writer.write("\r\n");
+    }
+}
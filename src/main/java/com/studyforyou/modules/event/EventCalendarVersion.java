@@ -0,0 +1,47 @@
+package com.studyforyou.modules.event;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+// 캘린더 피드의 ETag, Last-Modified -> 모임 수, 마지막 변경 시간 (계정 피드는 확정 신청 id 합계도 포함)
+@Getter
+public class EventCalendarVersion {
+
+    private final long count;
+
+    private final LocalDateTime lastModified;
+
+    private final long checksum;
+
+    public EventCalendarVersion(Long count, LocalDateTime lastModified) {
+        this(count, lastModified, 0L);
+    }
+
+    public EventCalendarVersion(Long count, LocalDateTime lastModified, Long checksum) {
+        this.count = count == null ? 0 : count;
+        this.lastModified = lastModified;
+        this.checksum = checksum == null ? 0 : checksum;
+    }
+
+    // 같은 초 안의 수정도 구분하도록 마이크로초까지 사용
+    public String getEtag() {
+        long micros = lastModified == null ? 0 : ChronoUnit.MICROS.between(Instant.EPOCH, toInstant(lastModified));
+        return "\"" + count + "-" + Long.toHexString(micros) + "-" + Long.toHexString(checksum) + "\"";
+    }
+
+    // 모임이 없으면 -1 -> Last-Modified 생략, HTTP 날짜는 초 단위
+    public long getLastModifiedMillis() {
+        if (lastModified == null) {
+            return -1;
+        }
+        return toInstant(lastModified).getEpochSecond() * 1000;
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
@@ -6,16 +6,21 @@ import com.studyforyou.modules.study.Study;
 import com.studyforyou.modules.study.StudyService;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Controller
 @RequiredArgsConstructor
@@ -27,6 +32,10 @@ public class EventController {
     private final EventService eventService;
     private final ModelMapper modelMapper;
     private final EventRepository eventRepository;
+    private final EnrollmentExportService enrollmentExportService;
+
+    private static final int NEW_EVENTS_PAGE_SIZE = 10;
+    private static final int OLD_EVENTS_PAGE_SIZE = 20;
 
     @InitBinder("eventForm")
     public void initBinder(WebDataBinder webDataBinder) {
@@ -70,24 +79,44 @@ public class EventController {
         model.addAttribute(account);
         model.addAttribute(study);
         model.addAttribute(event);
+        if (account != null) {
+            Enrollment enrollment = eventService.getEnrollment(event, account);
+            model.addAttribute("waitingPosition", eventService.getWaitingPosition(enrollment));
+            model.addAttribute("checkinToken", eventService.getCheckinToken(enrollment));
+        }
 
         return "event/view";
     }
 
+    @GetMapping("/events/{eventId}/enrollments.csv")
+    public void exportEnrollments(@CurrentAccount Account account, @PathVariable Long eventId, @PathVariable String path,
+                                  HttpServletResponse response) throws IOException {
+
+        Study study = studyService.getStudyWithManagers(account, path);
+
+        response.setContentType("text/csv;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"event-" + eventId + "-enrollments.csv\"");
+        enrollmentExportService.writeEnrollmentsCsv(study, eventId, response.getWriter());
+    }
+
     @GetMapping("/events")
-    public String eventList(@CurrentAccount Account account, Model model, @PathVariable String path) {
+    public String eventList(@CurrentAccount Account account, Model model, @PathVariable String path,
+                            @RequestParam(defaultValue = "0") int newPage, @RequestParam(defaultValue = "0") int oldPage) {
         Study study = studyService.getStudy(path);
 
         model.addAttribute(account);
         model.addAttribute(study);
 
-        Set<Event> allEvents = eventRepository.findByStudyOrderByStartDateTime(study);
-        Set<Event> newEvents = allEvents.stream().filter(event -> event.getEndDateTime().isAfter(LocalDateTime.now())).collect(Collectors.toSet());
-        Set<Event> oldEvents = allEvents.stream().filter(event -> event.getEndDateTime().isBefore(LocalDateTime.now())).collect(Collectors.toSet());
-        //TODO newEvents, oldEvents Foreach 를 사용하여 조건에 따라 리스트에 추가하는식으로 리팩토링
+        LocalDateTime now = LocalDateTime.now();
+        Page<Event> newEventPage = eventRepository.findByStudyAndEndDateTimeAfter(study, now,
+                PageRequest.of(Math.max(newPage, 0), NEW_EVENTS_PAGE_SIZE, Sort.by("startDateTime", "id")));
+        Page<Event> oldEventPage = eventRepository.findByStudyAndEndDateTimeLessThanEqual(study, now,
+                PageRequest.of(Math.max(oldPage, 0), OLD_EVENTS_PAGE_SIZE, Sort.by(Sort.Direction.DESC, "endDateTime", "id")));
 
-        model.addAttribute("newEvents", newEvents);
-        model.addAttribute("oldEvents", oldEvents);
+        model.addAttribute("newEvents", newEventPage.getContent());
+        model.addAttribute("oldEvents", oldEventPage.getContent());
+        model.addAttribute("newEventPage", newEventPage);
+        model.addAttribute("oldEventPage", oldEventPage);
 
         return "study/events";
     }
@@ -171,6 +200,39 @@ public class EventController {
         return "redirect:/study/" + study.getEncodedPath() + "/events/" + event.getId();
     }
 
+    @PostMapping("/events/{eventId}/enrollments/accept")
+    public String acceptEnrollments(@CurrentAccount Account account, @PathVariable String path, @PathVariable("eventId") Event event,
+                                    @RequestParam(required = false) Set<Long> enrollmentIds) {
+
+        Study study = studyService.getStudyWithManagers(account, path);
+        checkEventOfStudy(event, study);
+        eventService.acceptEnrollments(event, enrollmentIds);
+
+        return "redirect:/study/" + study.getEncodedPath() + "/events/" + event.getId();
+    }
+
+    @PostMapping("/events/{eventId}/enrollments/reject")
+    public String rejectEnrollments(@CurrentAccount Account account, @PathVariable String path, @PathVariable("eventId") Event event,
+                                    @RequestParam(required = false) Set<Long> enrollmentIds) {
+
+        Study study = studyService.getStudyWithManagers(account, path);
+        checkEventOfStudy(event, study);
+        eventService.rejectEnrollments(event, enrollmentIds);
+
+        return "redirect:/study/" + study.getEncodedPath() + "/events/" + event.getId();
+    }
+
+    @PostMapping("/events/{eventId}/enrollments/checkin")
+    public String checkinEnrollments(@CurrentAccount Account account, @PathVariable String path, @PathVariable("eventId") Event event,
+                                     @RequestParam(required = false) Set<Long> enrollmentIds) {
+
+        Study study = studyService.getStudyWithManagers(account, path);
+        checkEventOfStudy(event, study);
+        eventService.checkinEnrollments(event, enrollmentIds);
+
+        return "redirect:/study/" + study.getEncodedPath() + "/events/" + event.getId();
+    }
+
     @GetMapping("/events/{eventId}/enrollments/{enrollmentId}/checkin")
     public String checkinEnrollment(@CurrentAccount Account account ,@PathVariable String path, @PathVariable("eventId") Event event, @PathVariable("enrollmentId") Enrollment enrollment) {
 
@@ -187,4 +249,11 @@ public class EventController {
 
         return "redirect:/study/" + study.getEncodedPath() + "/events/" + event.getId();
     }
+
+    // 관리하는 스터디 path 에 다른 스터디의 모임 id 를 붙여서 처리하지 못하게 함
+    private void checkEventOfStudy(Event event, Study study) {
+        if (!study.equals(event.getStudy())) {
+            throw new IllegalArgumentException(study.getPath() + " 스터디의 모임이 아닙니다.");
+        }
+    }
 }
@@ -1,18 +1,57 @@
 package com.studyforyou.modules.event;
 
 import com.studyforyou.modules.study.Study;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Set;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Transactional(readOnly = true)
 public interface EventRepository extends JpaRepository<Event, Long> {
 
 
-//    @EntityGraph(value = "eventJoin", type = EntityGraph.EntityGraphType.LOAD)
-    @EntityGraph(attributePaths = {"enrollments"})
-    Set<Event> findByStudyOrderByStartDateTime(Study study);
+    // 새 모임, 지난 모임을 (study, endDateTime) 인덱스로 나눠서 페이지 조회
+    // 남은 자리는 확정 인원 컬럼으로 계산하므로 참가 신청은 읽지 않음
+    Page<Event> findByStudyAndEndDateTimeAfter(Study study, LocalDateTime dateTime, Pageable pageable);
+
+    Page<Event> findByStudyAndEndDateTimeLessThanEqual(Study study, LocalDateTime dateTime, Pageable pageable);
+
+    // 캘린더 피드 -> 엔티티를 만들지 않고 한 줄씩 읽어서 바로 응답에 씀 (트랜잭션 안에서 닫아야 함)
+    // MySQL 은 데이터소스 URL 에 useCursorFetch=true 가 있어야 fetch size 가 적용됨
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "100"))
+    @Query("select new com.studyforyou.modules.event.EventCalendarRow(e.id, e.title, e.startDateTime, e.endDateTime, " +
+            "coalesce(e.updatedDateTime, e.createdDateTime), s.path, s.title) " +
+            "from Event e join e.study s where s = :study order by e.startDateTime, e.id")
+    Stream<EventCalendarRow> streamCalendarRowsByStudy(@Param("study") Study study);
+
+    @Query("select new com.studyforyou.modules.event.EventCalendarVersion(count(e), max(coalesce(e.updatedDateTime, e.createdDateTime))) " +
+            "from Event e where e.study = :study")
+    EventCalendarVersion findCalendarVersionByStudy(@Param("study") Study study);
+
+    // select ... for update -> 같은 모임의 참가 신청, 취소, 확정 처리를 순서대로 실행
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Event findWithLockById(Long id);
+
+    // 확정, 대기 인원 컬럼이 추가되기 전의 모임과 어긋난 값을 참가 신청 기준으로 다시 계산
+    @Transactional
+    @Modifying
+    @Query("update Event e set " +
+            "e.acceptedCount = (select count(en) from Enrollment en where en.event = e and en.accepted = true), " +
+            "e.waitingCount = (select count(en) from Enrollment en where en.event = e and en.accepted = false) " +
+            "where e.acceptedCount <> (select count(en) from Enrollment en where en.event = e and en.accepted = true) " +
+            "or e.waitingCount <> (select count(en) from Enrollment en where en.event = e and en.accepted = false)")
+    int recalculateEnrollmentCounts();
 
 }
@@ -4,13 +4,21 @@ import com.studyforyou.modules.account.Account;
 import com.studyforyou.modules.study.Study;
 import com.studyforyou.modules.study.StudyUpdatedEvent;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.modelmapper.ModelMapper;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
 
+import javax.persistence.EntityManager;
 import javax.persistence.EntityNotFoundException;
+import javax.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -23,6 +31,8 @@ public class EventService {
     private final ModelMapper modelMapper;
     private final EnrollmentRepository enrollmentRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final EnrollmentCheckinToken enrollmentCheckinToken;
 
     public Event createEvent(Event event, Account account, Study study) {
         event.setStudy(study);
@@ -37,14 +47,43 @@ public class EventService {
         return eventRepository.findById(eventId).orElseThrow(EntityNotFoundException::new);
     }
 
+    @Transactional(readOnly = true)
+    public Enrollment getEnrollment(Event event, Account account) {
+        return enrollmentRepository.findByEventAndAccount(event, account);
+    }
+
+    // 대기 중이 아니면 null
+    @Transactional(readOnly = true)
+    public Long getWaitingPosition(Enrollment enrollment) {
+        if (enrollment == null || enrollment.isAccepted()) {
+            return null;
+        }
+        return enrollmentRepository.countWaitingBefore(enrollment.getEvent(), enrollment.getEnrolledAt(), enrollment.getId()) + 1;
+    }
+
+    // 확정 되었고 아직 체크인하지 않았을 때만 발급
+    public String getCheckinToken(Enrollment enrollment) {
+        if (enrollment == null || !enrollment.isAccepted() || enrollment.isAttended()) {
+            return null;
+        }
+        return enrollmentCheckinToken.create(enrollment.getId());
+    }
+
+    // 서명을 확인한 토큰의 참가 신청 id 로 스터디, 모임을 읽지 않고 update 한 번으로 체크인
+    public boolean checkinByToken(Account manager, Long enrollmentId) {
+        return enrollmentRepository.checkinByManager(enrollmentId, manager.getId()) == 1;
+    }
+
     @Transactional(readOnly = true)
     public Set<Event> getAllEvents() {
         return eventRepository.findAll().stream().collect(Collectors.toSet());
     }
 
     public void updateForm(Event event, EventForm eventForm) {
+        lockEvent(event);
         modelMapper.map(eventForm, event);
-        event.acceptWaitingEnrollment();
+        event.setUpdatedDateTime(LocalDateTime.now());
+        acceptWaitingEnrollments(event);
         eventPublisher.publishEvent(new StudyUpdatedEvent(event.getStudy(),event.getTitle() + " 모임의 정보가 수정되었습니다."));
     }
 
@@ -55,38 +94,90 @@ public class EventService {
 
     }
 
+    // 모임에 락을 잡은 뒤 중복 신청과 확정 인원을 확인 -> 동시에 신청이 몰려도 모집 인원까지만 확정
     public void enrollEvent(Account account, Event event) {
+        Event lockedEvent = lockEvent(event);
 
-        if (!enrollmentRepository.existsByEventAndAccount(event, account)) {
+        if (!enrollmentRepository.existsByEventAndAccount(lockedEvent, account)) {
             Enrollment enrollment = new Enrollment();
             enrollment.setAccount(account);
-            enrollment.setAccepted(event.isAbleToAcceptFCFS());
-            enrollment.setEnrolledAt(LocalDateTime.now());
-            event.addEnrollment(enrollment);
+            enrollment.setAccepted(lockedEvent.isAbleToAcceptFCFS());
+            enrollment.setEnrolledAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)); // DB 에 저장되는 정밀도와 맞춰 대기 순번 비교
+            lockedEvent.addEnrollment(enrollment);
             enrollmentRepository.save(enrollment);
         }
 
     }
 
     public void disenrollEvent(Account account, Event event) {
-        Enrollment enrollment = enrollmentRepository.findByEventAndAccount(event, account);
+        Event lockedEvent = lockEvent(event);
+        Enrollment enrollment = enrollmentRepository.findByEventAndAccount(lockedEvent, account);
         if (enrollment != null) {
             if(!enrollment.isAttended()) { // 체크인이 아니여야 삭제
-                event.removeEnrollment(enrollment);
+                lockedEvent.removeEnrollment(enrollment);
                 enrollmentRepository.delete(enrollment);
-                event.acceptNextWaitingEnrollment();
+                acceptWaitingEnrollments(lockedEvent);
             }
         }
     }
 
     public void acceptEnrollment(Event event, Enrollment enrollment) {
-        event.acceptEnrollment(enrollment);
-        eventPublisher.publishEvent(new StudyEventUpdatedEvent(enrollment,event.getTitle() + " 모임에 대한 참가 신청이 수락 되었습니다."));
+        Event lockedEvent = lockEvent(event);
+        Enrollment lockedEnrollment = reloadEnrollment(enrollment);
+        boolean accepted = lockedEnrollment.isAccepted();
+        lockedEvent.acceptEnrollment(lockedEnrollment);
+        if (!accepted && lockedEnrollment.isAccepted()) { // 실제로 바뀐 경우만 알림 (이미 수락된 신청, 남은 자리 없음)
+            eventPublisher.publishEvent(new StudyEventUpdatedEvent(lockedEnrollment,event.getTitle() + " 모임에 대한 참가 신청이 수락 되었습니다."));
+        }
     }
 
     public void rejectEnrollment(Event event, Enrollment enrollment) {
-        event.rejectEnrollment(enrollment);
-        eventPublisher.publishEvent(new StudyEventUpdatedEvent(enrollment,event.getTitle() + " 모임에 대한 참가 신청이 거절 되었습니다."));
+        Event lockedEvent = lockEvent(event);
+        Enrollment lockedEnrollment = reloadEnrollment(enrollment);
+        boolean accepted = lockedEnrollment.isAccepted();
+        lockedEvent.rejectEnrollment(lockedEnrollment);
+        if (accepted && !lockedEnrollment.isAccepted()) {
+            eventPublisher.publishEvent(new StudyEventUpdatedEvent(lockedEnrollment,event.getTitle() + " 모임에 대한 참가 신청이 거절 되었습니다."));
+        }
+    }
+
+    // 선택한 참가 신청 중 대기 중인 것을 신청 순서대로 남은 자리만큼 수락하고 알림은 한 번에 보냄
+    public void acceptEnrollments(Event event, Set<Long> enrollmentIds) {
+        Event lockedEvent = lockEvent(event);
+        if (CollectionUtils.isEmpty(enrollmentIds) || !lockedEvent.isAbleToAcceptCONFIMATIVE()) {
+            return;
+        }
+
+        Set<Long> ids = new HashSet<>(enrollmentRepository.findIdsByAccepted(lockedEvent, enrollmentIds, false,
+                PageRequest.of(0, lockedEvent.numberOfRemainSpots())));
+        if (!ids.isEmpty()) {
+            enrollmentRepository.acceptAll(ids);
+            lockedEvent.acceptedFromWaitingList(ids.size());
+            refreshLoadedEnrollments(ids);
+            eventPublisher.publishEvent(new StudyEventUpdatedEvent(lockedEvent, ids, lockedEvent.getTitle() + " 모임에 대한 참가 신청이 수락 되었습니다."));
+        }
+    }
+
+    public void rejectEnrollments(Event event, Set<Long> enrollmentIds) {
+        Event lockedEvent = lockEvent(event);
+        if (CollectionUtils.isEmpty(enrollmentIds) || lockedEvent.getEventType() != EventType.CONFIRMATIVE) {
+            return;
+        }
+
+        Set<Long> ids = new HashSet<>(enrollmentRepository.findIdsByAccepted(lockedEvent, enrollmentIds, true, Pageable.unpaged()));
+        if (!ids.isEmpty()) {
+            enrollmentRepository.rejectAll(ids);
+            lockedEvent.rejectedToWaitingList(ids.size());
+            refreshLoadedEnrollments(ids);
+            eventPublisher.publishEvent(new StudyEventUpdatedEvent(lockedEvent, ids, lockedEvent.getTitle() + " 모임에 대한 참가 신청이 거절 되었습니다."));
+        }
+    }
+
+    public void checkinEnrollments(Event event, Set<Long> enrollmentIds) {
+        if (!CollectionUtils.isEmpty(enrollmentIds)) {
+            enrollmentRepository.checkinAll(event, enrollmentIds);
+            refreshLoadedEnrollments(enrollmentIds);
+        }
     }
 
     public void checkinEnrollment(Event event, Enrollment enrollment) {
@@ -96,5 +187,46 @@ public class EventService {
     public void checkoutEnrollment(Event event, Enrollment enrollment) {
         event.checkoutEnrollment(enrollment);
     }
+
+    // 대기 순서대로 남은 자리만큼 id 를 읽고 한 번의 update 로 확정
+    private void acceptWaitingEnrollments(Event event) {
+        int count = event.numberOfWaitingToAccept();
+        if (count == 0) {
+            return;
+        }
+
+        Set<Long> ids = new HashSet<>(enrollmentRepository.findWaitingIds(event, PageRequest.of(0, count)));
+        enrollmentRepository.acceptAll(ids);
+        event.acceptedFromWaitingList(ids.size());
+        refreshLoadedEnrollments(ids);
+    }
+
+    // bulk update 는 영속성 컨텍스트를 거치지 않으므로 이미 읽어둔 참가 신청은 다시 읽음
+    // 모임을 refresh 하면 목록은 다시 지연 로딩이 되지만 읽어둔 참가 신청은 그대로 남아 있으므로 목록이 아니라 id 로 찾음
+    private void refreshLoadedEnrollments(Set<Long> ids) {
+        ids.stream().map(id -> entityManager.getReference(Enrollment.class, id))
+                .filter(Hibernate::isInitialized) // 아직 읽지 않은 참가 신청은 조회하지 않음
+                .forEach(entityManager::refresh);
+    }
+
+    // 모임 행에 쓰기 락을 잡고 확정, 대기 인원을 다시 읽음
+    // -> 같은 모임의 신청, 취소, 확정 처리가 순서대로 실행되고 먼저 읽어둔 인원 수로 덮어쓰지 않음
+    private Event lockEvent(Event event) {
+        if (!entityManager.contains(event)) {
+            return eventRepository.findWithLockById(event.getId());
+        }
+        entityManager.flush();
+        entityManager.refresh(event, LockModeType.PESSIMISTIC_WRITE);
+        return event;
+    }
+
+    // 모임 락을 잡은 뒤 참가 신청도 다시 읽음 -> 락을 기다리는 동안 다른 요청이 수락, 거절했으면 인원을 두 번 세지 않음
+    private Enrollment reloadEnrollment(Enrollment enrollment) {
+        if (!entityManager.contains(enrollment)) {
+            return enrollmentRepository.findById(enrollment.getId()).orElseThrow();
+        }
+        entityManager.refresh(enrollment);
+        return enrollment;
+    }
 }
 
@@ -0,0 +1,80 @@
+package com.studyforyou.modules.event;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.function.Function;
+
+// id 와 HMAC 서명으로 만든 토큰 ("id.서명") -> DB 조회 없이 위조 여부 확인
+// key 를 같이 서명하면 key 를 바꿔서 이미 나간 토큰을 무효로 만들 수 있음
+class SignedIdToken {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final String purpose;
+
+    private final ThreadLocal<Mac> mac;
+
+    SignedIdToken(String secret, String purpose) {
+        SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.purpose = purpose;
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance(ALGORITHM);
+                instance.init(key);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    String create(Long id) {
+        return create(id, "");
+    }
+
+    String create(Long id, String key) {
+        return id + "." + sign(id, key);
+    }
+
+    // 서명이 맞지 않으면 null
+    Long verify(String token) {
+        return verify(token, id -> "");
+    }
+
+    // keyOf 는 id 로 서명에 넣은 key 를 찾음 -> null 이면 맞지 않는 토큰
+    Long verify(String token, Function<Long, String> keyOf) {
+        if (token == null) {
+            return null;
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return null;
+        }
+
+        Long id;
+        try {
+            id = Long.valueOf(token.substring(0, dot));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        String key = keyOf.apply(id);
+        if (key == null) {
+            return null;
+        }
+
+        byte[] expected = sign(id, key).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = token.substring(dot + 1).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, actual) ? id : null;
+    }
+
+    private String sign(Long id, String key) {
+        String payload = key.isEmpty() ? purpose + ":" + id : purpose + ":" + id + ":" + key;
+        byte[] signature = mac.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    }
+}
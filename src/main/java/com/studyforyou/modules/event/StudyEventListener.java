@@ -23,7 +23,9 @@ import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 @Slf4j
@@ -39,6 +41,8 @@ public class StudyEventListener {
     private final TemplateEngine templateEngine;
     private final AppProperties appProperties;
     private final NotificationRepository notificationRepository;
+    private final EventRepository eventRepository;
+    private final EnrollmentRepository enrollmentRepository;
 
     @EventListener
     public void handleStudyCreateEvent(StudyCreatedEvent studyCreatedEvent) {
@@ -80,23 +84,34 @@ public class StudyEventListener {
     @EventListener
     public void handleEventUpdateEvent(StudyEventUpdatedEvent studyEventUpdatedEvent) {
 
-        Enrollment enrollment = studyEventUpdatedEvent.getEnrollment();
-        Event event = enrollment.getEvent();
+        Event event = eventRepository.findById(studyEventUpdatedEvent.getEvent().getId()).orElse(null);
+        if (event == null) {
+            return;
+        }
         Study study = event.getStudy();
-        Account account = enrollment.getAccount();
         String message = studyEventUpdatedEvent.getMessage();
+        String subject = "스터디 포유 '"+ study.getTitle()+ "' "+event.getTitle()+" 모임 신청 결과 입니다.";
 
+        List<Notification> notifications = new ArrayList<>();
+        enrollmentRepository.findWithAccountByIdIn(studyEventUpdatedEvent.getEnrollmentIds()).forEach(enrollment -> {
+            Account account = enrollment.getAccount();
 
             if (account.isStudyEnrollmentResultByEmail()) {
-                sendCreatedStudyEmail(study, account, message,"스터디 포유 '"+ study.getTitle()+ "' "+event.getTitle()+" 모임 신청 결과 입니다.");
+                sendCreatedStudyEmail(study, account, message, subject);
             }
 
             if (account.isStudyEnrollmentResultByWeb()) {
-                createNotification(study, account, message, NotificationType.EVENT_ENROLLMENT);
+                notifications.add(newNotification(study, account, message, NotificationType.EVENT_ENROLLMENT));
             }
+        });
+        notificationRepository.saveAll(notifications);
     }
 
     private void createNotification(Study study, Account account, String description, NotificationType notificationType) {
+        notificationRepository.save(newNotification(study, account, description, notificationType));
+    }
+
+    private Notification newNotification(Study study, Account account, String description, NotificationType notificationType) {
         Notification notification = new Notification();
         notification.setAccount(account);
         notification.setTitle(study.getTitle());
@@ -104,7 +119,7 @@ public class StudyEventListener {
         notification.setCreatedDateTime(LocalDateTime.now());
         notification.setMessage(description);
         notification.setNotificationType(notificationType);
-        notificationRepository.save(notification);
+        return notification;
     }
 
     private void sendCreatedStudyEmail(Study study, Account account,String description,String subject) {
@@ -1,16 +1,24 @@
 package com.studyforyou.modules.event;
 
-import com.studyforyou.modules.study.Study;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
+import java.util.Set;
+
+// 같은 모임의 여러 참가 신청 결과를 한 번에 알림
 @Getter
-@RequiredArgsConstructor
 public class StudyEventUpdatedEvent {
 
-    private final Enrollment enrollment;
+    private final Event event;
+    private final Set<Long> enrollmentIds;
     private final String message;
 
+    public StudyEventUpdatedEvent(Event event, Set<Long> enrollmentIds, String message) {
+        this.event = event;
+        this.enrollmentIds = enrollmentIds;
+        this.message = message;
+    }
 
+    public StudyEventUpdatedEvent(Enrollment enrollment, String message) {
+        this(enrollment.getEvent(), Set.of(enrollment.getId()), message);
+    }
 }
-
@@ -0,0 +1,25 @@
+package com.studyforyou.modules.image;
+
+import lombok.*;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+// 디스크에 저장된 이미지 하나 -> 같은 내용을 쓰는 스터디, 계정 수만큼 referenceCount 가 올라감
+@Entity
+@Getter @Setter @EqualsAndHashCode(of = "hash")
+@AllArgsConstructor @NoArgsConstructor @Builder
+public class ImageBlob {
+
+    @Id
+    private String hash;
+
+    private String contentType;
+
+    private long size;
+
+    private int referenceCount;
+
+    private LocalDateTime unreferencedDateTime; // referenceCount 가 0 이 된 시간
+}
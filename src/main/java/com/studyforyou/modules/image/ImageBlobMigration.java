@@ -0,0 +1,60 @@
+package com.studyforyou.modules.image;
+
+import com.studyforyou.infra.image.ImageData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// 이미지 저장소 도입 전에 data URI 로 저장된 배너, 프로필 이미지를 저장소로 옮기고 참조로 바꿈 (건마다 커밋)
+@Slf4j
+@Component
+public class ImageBlobMigration {
+
+    private final ImageService imageService;
+    private final ImageBlobService imageBlobService;
+    private final TransactionTemplate transactionTemplate;
+
+    public ImageBlobMigration(ImageService imageService, ImageBlobService imageBlobService, PlatformTransactionManager transactionManager) {
+        this.imageService = imageService;
+        this.imageBlobService = imageBlobService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        for (ImageOwner owner : imageService.getOwners()) {
+            List<Long> ids = owner.findIdsWithDataUriImage();
+            ids.forEach(id -> transactionTemplate.executeWithoutResult(status -> migrate(owner, id)));
+
+            if (!ids.isEmpty()) {
+                log.info("이미지 저장소로 옮김 : {} {} 건", owner.getType(), ids.size());
+            }
+        }
+    }
+
+    void migrate(ImageOwner owner, Long id) {
+        String image = owner.findImage(id);
+        if (ImageData.isDataUri(image)) {
+            owner.updateImage(id, store(image));
+        }
+
+        String thumbnail = owner.findThumbnail(id);
+        if (ImageData.isDataUri(thumbnail)) {
+            owner.updateThumbnail(id, store(thumbnail));
+        }
+    }
+
+    // PNG, JPEG, GIF 가 아닌 값은 옮기지 않고 지움
+    private String store(String dataUri) {
+        if (ImageData.imageFromDataUri(dataUri) == null) {
+            log.warn("이미지가 아닌 값이라 지움 : {}", dataUri.substring(0, Math.min(dataUri.length(), 40)));
+            return null;
+        }
+        return imageBlobService.store(dataUri);
+    }
+}
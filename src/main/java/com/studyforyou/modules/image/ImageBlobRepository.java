@@ -0,0 +1,38 @@
+package com.studyforyou.modules.image;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, String> {
+
+    @Transactional
+    @Modifying
+    @Query("update ImageBlob b set b.referenceCount = b.referenceCount + 1, b.unreferencedDateTime = null where b.hash = :hash")
+    int increaseReferenceCount(@Param("hash") String hash);
+
+    @Transactional
+    @Modifying
+    @Query("update ImageBlob b set b.referenceCount = b.referenceCount - 1 where b.hash = :hash and b.referenceCount > 0")
+    int decreaseReferenceCount(@Param("hash") String hash);
+
+    @Transactional
+    @Modifying
+    @Query("update ImageBlob b set b.unreferencedDateTime = :dateTime where b.hash = :hash and b.referenceCount = 0")
+    int markUnreferenced(@Param("hash") String hash, @Param("dateTime") LocalDateTime dateTime);
+
+    // 그 사이 다시 참조되었으면 지우지 않음
+    @Transactional
+    @Modifying
+    @Query("delete from ImageBlob b where b.hash = :hash and b.referenceCount = 0")
+    int deleteUnreferenced(@Param("hash") String hash);
+
+    @Query("select b.hash from ImageBlob b where b.referenceCount = 0 and b.unreferencedDateTime < :before")
+    List<String> findUnreferencedHashes(@Param("before") LocalDateTime before);
+}
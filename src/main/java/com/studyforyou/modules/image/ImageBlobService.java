@@ -0,0 +1,158 @@
+package com.studyforyou.modules.image;
+
+import com.studyforyou.infra.image.ImageData;
+import com.studyforyou.infra.image.ImageFileStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+// 업로드 이미지를 내용 hash 로 한 번만 저장하고, 엔티티에는 "blob:{hash}" 참조만 남긴다
+// 참조가 0 이 된 뒤 GRACE_PERIOD 가 지나면 지움 (그 사이 같은 이미지가 다시 올라오면 살아남음)
+@Slf4j
+@Service
+@Transactional
+public class ImageBlobService {
+
+    public static final String REFERENCE_PREFIX = "blob:";
+    public static final String UNSUPPORTED_IMAGE = "PNG, JPEG, GIF 이미지만 올릴 수 있습니다.";
+
+    private static final Duration GRACE_PERIOD = Duration.ofHours(1);
+
+    private final ImageBlobRepository imageBlobRepository;
+    private final ImageFileStore imageFileStore;
+    private final EntityManager entityManager;
+    private final TransactionTemplate newTransaction;
+
+    public ImageBlobService(ImageBlobRepository imageBlobRepository, ImageFileStore imageFileStore,
+                            EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.imageBlobRepository = imageBlobRepository;
+        this.imageFileStore = imageFileStore;
+        this.entityManager = entityManager;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public static boolean isReference(String value) {
+        return value != null && value.startsWith(REFERENCE_PREFIX);
+    }
+
+    public String store(String dataUri) {
+        return store(ImageData.fromDataUri(dataUri));
+    }
+
+    // content type 은 바이트에서 읽은 값으로 저장 -> 응답에 그대로 내려가므로 선언된 값은 쓰지 않음
+    public String store(ImageData image) {
+        String contentType = ImageData.sniffContentType(image.getBytes());
+        if (contentType == null) {
+            throw new IllegalArgumentException(UNSUPPORTED_IMAGE);
+        }
+
+        String hash = ImageData.sha256(image.getBytes());
+
+        if (imageBlobRepository.increaseReferenceCount(hash) == 0) {
+            createBlob(hash, contentType, image.getBytes().length);
+            imageBlobRepository.increaseReferenceCount(hash);
+        }
+        imageFileStore.write(hash, image.getBytes()); // 참조를 올린 뒤에 써야 GC 와 엇갈려도 파일이 남음
+        return REFERENCE_PREFIX + hash;
+    }
+
+    // 처음 올라온 이미지의 행을 참조 0 으로 따로 커밋 -> 같은 이미지를 동시에 처음 저장해도 한 쪽만 만들고 나머지는 그 행의 참조를 올림
+    // 바깥 트랜잭션이 롤백되면 참조 0 인 행으로 남아 GC 가 지움
+    private void createBlob(String hash, String contentType, long size) {
+        try {
+            newTransaction.executeWithoutResult(status -> {
+                entityManager.persist(ImageBlob.builder() // save 는 merge 라서 먼저 만들어진 행의 참조 수를 덮어씀
+                        .hash(hash)
+                        .contentType(contentType)
+                        .size(size)
+                        .referenceCount(0)
+                        .unreferencedDateTime(LocalDateTime.now())
+                        .build());
+                entityManager.flush();
+            });
+        } catch (PersistenceException e) {
+            log.debug("다른 요청이 먼저 저장한 이미지 {}", hash);
+        }
+    }
+
+    public void release(String reference) {
+        if (!isReference(reference)) {
+            return;
+        }
+
+        String hash = hash(reference);
+        if (imageBlobRepository.decreaseReferenceCount(hash) > 0) {
+            imageBlobRepository.markUnreferenced(hash, LocalDateTime.now());
+        }
+    }
+
+    // 폼에서 넘어온 값으로 교체한 값을 돌려줌
+    // 빈 값 -> 이미지 삭제, data URI -> 새 이미지로 저장, 참조 (화면에 내려준 기존 값) -> 변경 없음, 그 외 -> 저장하지 않음
+    public String replace(String current, String submitted) {
+        if (submitted == null || submitted.isEmpty()) {
+            release(current);
+            return null;
+        }
+        if (submitted.equals(current) || isReference(submitted)) { // 다른 참조로 바꿔치기 할 수 없음
+            return current;
+        }
+
+        if (!ImageData.isDataUri(submitted)) {
+            throw new IllegalArgumentException(UNSUPPORTED_IMAGE);
+        }
+
+        String replaced = store(submitted);
+        release(current);
+        return replaced;
+    }
+
+    @Transactional(readOnly = true)
+    public ImageData load(String reference) {
+        String hash = hash(reference);
+        ImageBlob blob = imageBlobRepository.findById(hash).orElse(null);
+        byte[] bytes = blob == null ? null : imageFileStore.read(hash);
+        return bytes == null ? null : ImageData.of(blob.getContentType(), bytes);
+    }
+
+    // 참조가 없는 이미지와, 커밋되지 못해 행 없이 남은 파일을 지움
+    @Scheduled(initialDelayString = "PT1H", fixedDelayString = "PT1H")
+    public int collectGarbage() {
+        int deleted = 0;
+        for (String hash : imageBlobRepository.findUnreferencedHashes(LocalDateTime.now().minus(GRACE_PERIOD))) {
+            if (imageBlobRepository.deleteUnreferenced(hash) > 0) {
+                imageFileStore.delete(hash);
+                deleted++;
+            }
+        }
+
+        Set<String> orphans = new HashSet<>(imageFileStore.findHashesWrittenBefore(Instant.now().minus(GRACE_PERIOD)));
+        for (String hash : orphans) {
+            if (!imageBlobRepository.existsById(hash)) {
+                imageFileStore.delete(hash);
+                deleted++;
+            }
+        }
+
+        if (deleted > 0) {
+            log.info("사용하지 않는 이미지 {} 개 삭제", deleted);
+        }
+        return deleted;
+    }
+
+    private String hash(String reference) {
+        return reference.substring(REFERENCE_PREFIX.length());
+    }
+}
@@ -0,0 +1,41 @@
+package com.studyforyou.modules.image;
+
+import com.studyforyou.infra.image.ImageData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+// ETag 가 If-None-Match 와 같으면 스프링이 본문 없이 304 로 응답
+// 브라우저가 내용을 보고 타입을 추측하지 않게 nosniff -> 이미지가 아닌 값은 HTML 등으로 해석되지 않음
+@Controller
+@RequiredArgsConstructor
+public class ImageController {
+
+    private static final String THUMBNAIL = "thumb";
+
+    private final ImageService imageService;
+
+    // type 은 ImageOwner 종류 (study, account)
+    @GetMapping("/images/{type}/{id}")
+    public ResponseEntity<byte[]> image(@PathVariable String type, @PathVariable Long id, String size) {
+        return toResponse(THUMBNAIL.equals(size) ? imageService.getThumbnail(type, id) : imageService.getImage(type, id));
+    }
+
+    private ResponseEntity<byte[]> toResponse(ImageData image) {
+        if (image == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(image.getEtag())
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .header("X-Content-Type-Options", "nosniff")
+                .contentType(ImageData.isSupportedContentType(image.getContentType())
+                        ? MediaType.parseMediaType(image.getContentType()) : MediaType.APPLICATION_OCTET_STREAM)
+                .body(image.getBytes());
+    }
+}
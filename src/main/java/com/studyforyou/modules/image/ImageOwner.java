@@ -0,0 +1,24 @@
+package com.studyforyou.modules.image;
+
+import java.util.List;
+
+// 이미지를 가진 엔티티 (스터디 배너, 계정 프로필 이미지) -> 각 모듈이 구현해서 빈으로 등록
+// 이미지 모듈은 스터디, 계정 모듈을 모르고 이 인터페이스로만 원본과 썸네일 참조를 읽고 씀
+public interface ImageOwner {
+
+    String getType(); // 이미지 주소 /images/{type}/{id}
+
+    int getThumbnailWidth();
+
+    int getThumbnailHeight();
+
+    String findImage(Long id);
+
+    String findThumbnail(Long id);
+
+    void updateImage(Long id, String image);
+
+    void updateThumbnail(Long id, String thumbnail);
+
+    List<Long> findIdsWithDataUriImage();
+}
@@ -0,0 +1,59 @@
+package com.studyforyou.modules.image;
+
+import com.studyforyou.infra.image.ImageCache;
+import com.studyforyou.infra.image.ImageData;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 엔티티에는 이미지 참조만 있으므로 참조만 조회하고, 이미지는 참조(내용 hash) 별로 한 번만 읽어서 캐시
+@Service
+@Transactional(readOnly = true)
+public class ImageService {
+
+    private final Map<String, ImageOwner> owners;
+    private final ImageBlobService imageBlobService;
+    private final ImageCache imageCache;
+
+    public ImageService(List<ImageOwner> owners, ImageBlobService imageBlobService, ImageCache imageCache) {
+        this.owners = owners.stream().collect(Collectors.toMap(ImageOwner::getType, Function.identity()));
+        this.imageBlobService = imageBlobService;
+        this.imageCache = imageCache;
+    }
+
+    // 없는 종류면 null
+    public ImageOwner getOwner(String type) {
+        return owners.get(type);
+    }
+
+    public List<ImageOwner> getOwners() {
+        return List.copyOf(owners.values());
+    }
+
+    public ImageData getImage(String type, Long id) {
+        ImageOwner owner = getOwner(type);
+        return owner == null ? null : load(owner.findImage(id));
+    }
+
+    // 썸네일이 아직 없으면 원본
+    public ImageData getThumbnail(String type, Long id) {
+        ImageOwner owner = getOwner(type);
+        if (owner == null) {
+            return null;
+        }
+
+        ImageData thumbnail = load(owner.findThumbnail(id));
+        return thumbnail != null ? thumbnail : load(owner.findImage(id));
+    }
+
+    ImageData load(String image) {
+        if (ImageBlobService.isReference(image)) {
+            return imageCache.get(image, () -> imageBlobService.load(image));
+        }
+        return ImageData.isDataUri(image) ? ImageData.imageFromDataUri(image) : null; // 저장소로 옮기기 전의 값
+    }
+}
@@ -0,0 +1,14 @@
+package com.studyforyou.modules.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 원본 이미지가 바뀜 -> 커밋 이후 썸네일을 다시 만듦
+@Getter
+@RequiredArgsConstructor
+public class ImageUpdatedEvent {
+
+    private final String ownerType;
+
+    private final Long ownerId;
+}
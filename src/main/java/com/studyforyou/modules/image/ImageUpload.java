@@ -0,0 +1,21 @@
+package com.studyforyou.modules.image;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 폼으로 받는 이미지 값 -> 빈 값, 화면에 내려준 참조, PNG / JPEG / GIF data URI 만 허용
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = ImageUploadValidator.class)
+public @interface ImageUpload {
+
+    String message() default ImageBlobService.UNSUPPORTED_IMAGE;
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
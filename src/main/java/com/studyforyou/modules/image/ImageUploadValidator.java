@@ -0,0 +1,17 @@
+package com.studyforyou.modules.image;
+
+import com.studyforyou.infra.image.ImageData;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+public class ImageUploadValidator implements ConstraintValidator<ImageUpload, String> {
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        if (value == null || value.isEmpty() || ImageBlobService.isReference(value)) {
+            return true;
+        }
+        return ImageData.imageFromDataUri(value) != null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.studyforyou.modules.image;
+
+import com.studyforyou.infra.image.ImageData;
+import com.studyforyou.infra.image.Thumbnails;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+
+// 배너, 프로필 이미지가 바뀌면 커밋 이후 비동기로 썸네일을 만들어 이미지 저장소에 넣고 원본 옆 컬럼에 참조를 저장
+// 같은 대상에 대한 작업이 겹쳐도 마지막엔 최신 원본의 썸네일이 남도록 전용 executor 에서 하나씩, 원본은 실행 시점에 다시 읽고 커밋까지 마친다
+@Slf4j
+@Service
+public class ThumbnailService {
+
+    private final ImageService imageService;
+    private final ImageBlobService imageBlobService;
+    private final TransactionTemplate transactionTemplate;
+
+    public ThumbnailService(ImageService imageService, ImageBlobService imageBlobService, PlatformTransactionManager transactionManager) {
+        this.imageService = imageService;
+        this.imageBlobService = imageBlobService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Async("thumbnailExecutor")
+    @TransactionalEventListener
+    public void handleImageUpdatedEvent(ImageUpdatedEvent imageUpdatedEvent) {
+        createThumbnail(imageUpdatedEvent.getOwnerType(), imageUpdatedEvent.getOwnerId());
+    }
+
+    public void createThumbnail(String type, Long id) {
+        ImageOwner owner = imageService.getOwner(type);
+        if (owner == null) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            String previous = owner.findThumbnail(id);
+            owner.updateThumbnail(id, thumbnail(imageService.getImage(type, id), owner.getThumbnailWidth(), owner.getThumbnailHeight()));
+            imageBlobService.release(previous);
+        });
+    }
+
+    // 원본이 없거나 읽을 수 없는 이미지면 null -> 원본을 그대로 보여줌
+    private String thumbnail(ImageData image, int maxWidth, int maxHeight) {
+        if (image == null) {
+            return null;
+        }
+
+        try {
+            ImageData thumbnail = Thumbnails.create(image.getBytes(), maxWidth, maxHeight);
+            return thumbnail == null ? null : imageBlobService.store(thumbnail);
+        } catch (IOException e) {
+            log.warn("썸네일 생성 실패", e);
+            return null;
+        }
+    }
+}
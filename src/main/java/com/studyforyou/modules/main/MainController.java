@@ -3,28 +3,49 @@ package com.studyforyou.modules.main;
 import com.studyforyou.modules.account.AccountRepository;
 import com.studyforyou.modules.account.CurrentAccount;
 import com.studyforyou.modules.account.Account;
+import com.studyforyou.modules.event.CalendarFeedToken;
 import com.studyforyou.modules.event.Enrollment;
 import com.studyforyou.modules.event.EnrollmentRepository;
+import com.studyforyou.modules.study.HomeStudyListCache;
 import com.studyforyou.modules.study.Study;
+import com.studyforyou.modules.study.StudyCard;
+import com.studyforyou.modules.study.StudyRecommender;
 import com.studyforyou.modules.study.StudyRepository;
+import com.studyforyou.modules.study.StudySearchFilter;
+import com.studyforyou.modules.study.StudySearchService;
+import com.studyforyou.modules.study.StudySuggester;
+import com.studyforyou.modules.study.StudySuggestion;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Controller
 @RequiredArgsConstructor
 public class MainController {
 
+    private static final String CURSOR_MODE = "cursor";
+    private static final int MAX_SUGGESTIONS = 20;
+    private static final int UPCOMING_ENROLLMENTS = 6;
+
     private final StudyRepository studyRepository;
     private final AccountRepository accountRepository;
     private final EnrollmentRepository enrollmentRepository;
+    private final StudySearchService studySearchService;
+    private final HomeStudyListCache homeStudyListCache;
+    private final StudyRecommender studyRecommender;
+    private final StudySuggester studySuggester;
+    private final CalendarFeedToken calendarFeedToken;
 
     @GetMapping("/")
     public String home(@CurrentAccount Account account, Model model) {
@@ -32,18 +53,19 @@ public class MainController {
 
         if (account != null) {
             Account accountWithTagsAndZone = accountRepository.findAccountWithTagsAndZonesById(account.getId());
-            List<Enrollment> enrollmentList = enrollmentRepository.findEnrollmentWithEventAndStudyByAccepted(true);
-            List<Study> studyList = studyRepository.findByAccount(accountWithTagsAndZone.getTags(), accountWithTagsAndZone.getZones());
+            List<Enrollment> enrollmentList = enrollmentRepository.findUpcomingAcceptedByAccount(account, LocalDateTime.now(), PageRequest.of(0, UPCOMING_ENROLLMENTS));
+            List<StudyCard> studyList = studyRecommender.recommend(accountWithTagsAndZone.getTags(), accountWithTagsAndZone.getZones(), 6);
             List<Study> managers = studyRepository.findFirst5ByManagersContainingAndClosedOrderByPublishedDateTime(account,false);
             List<Study> members = studyRepository.findFirst5ByMembersContainingAndClosedOrderByPublishedDateTime(account,false);
             model.addAttribute("account",accountWithTagsAndZone);
             model.addAttribute("enrollmentList", enrollmentList);
+            model.addAttribute("calendarFeedToken", calendarFeedToken.create(account));
             model.addAttribute("studyList", studyList);
             model.addAttribute("studyManagerOf", managers);
             model.addAttribute("studyMemberOf", members);
             return "index-after-login";
         } else {
-            List<Study> studyList = studyRepository.findHomeStudyList();
+            List<StudyCard> studyList = homeStudyListCache.getStudyList();
             model.addAttribute("studyList", studyList);
             return "index";
         }
@@ -52,14 +74,29 @@ public class MainController {
 
 
     @GetMapping("/search/study")
-    public String SearchList(String keyword, Model model,
+    public String SearchList(String keyword, String mode, String after, String before, Long tag, Long zone, String province, Model model,
                              @PageableDefault(size = 9, sort = "publishedDateTime", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<Study> studyPage = studyRepository.findByKeyword(keyword, pageable);
         model.addAttribute("keyword", keyword);
-        model.addAttribute("studyPage", studyPage);
-        model.addAttribute("sortProperty", pageable.getSort().toString().contains("publishedDateTime") ? "publishedDateTime" : "memberCount");
+        StudySearchFilter filter = StudySearchFilter.of(tag, zone, province);
+        model.addAttribute("studySearchFilter", filter);
+        model.addAttribute("studyFacets", studySearchService.facets(keyword, filter));
+
+        boolean orderByRelevance = StudySearchService.isOrderByRelevance(pageable);
+
+        if (!orderByRelevance && (CURSOR_MODE.equals(mode) || after != null || before != null)) {
+            model.addAttribute("studyCursorPage", studySearchService.searchByCursor(keyword, filter, pageable, after, before));
+        } else {
+            Page<StudyCard> studyPage = studySearchService.search(keyword, filter, pageable);
+            model.addAttribute("studyPage", studyPage);
+        }
+        model.addAttribute("sortProperty", orderByRelevance ? StudySearchService.RELEVANCE
+                : pageable.getSort().toString().contains("publishedDateTime") ? "publishedDateTime" : "memberCount");
         return "list";
     }
 
-
+    @GetMapping("/search/suggest")
+    @ResponseBody
+    public List<StudySuggestion> suggest(String prefix, @RequestParam(defaultValue = "10") int size) {
+        return studySuggester.suggest(prefix, Math.min(size, MAX_SUGGESTIONS));
+    }
 }
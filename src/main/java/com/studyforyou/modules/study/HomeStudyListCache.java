@@ -0,0 +1,80 @@
+package com.studyforyou.modules.study;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+// 비로그인 홈 화면의 최근 스터디 목록 캐시 -> 스터디 공개, 종료, 수정 이벤트가 오면 비움
+@Component
+@RequiredArgsConstructor
+public class HomeStudyListCache {
+
+    private final StudyRepository studyRepository;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    private List<StudyCard> studyList;
+    private long version;
+
+    public List<StudyCard> getStudyList() {
+        long loadingVersion;
+        synchronized (this) {
+            if (studyList != null) {
+                hitCount.increment();
+                return studyList;
+            }
+            loadingVersion = version;
+        }
+
+        missCount.increment();
+        List<StudyCard> loaded = Collections.unmodifiableList(studyRepository.findHomeStudyList());
+
+        synchronized (this) {
+            if (version == loadingVersion) { // 조회 중에 무효화 되었으면 저장하지 않음
+                studyList = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public synchronized void invalidate() {
+        version++;
+        studyList = null;
+    }
+
+    // 커밋된 뒤에 무효화 -> 커밋 전에 비우면 다른 요청이 이전 데이터를 다시 읽어 계속 캐시함
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleStudyCreatedEvent(StudyCreatedEvent studyCreatedEvent) {
+        invalidate();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleStudyUpdatedEvent(StudyUpdatedEvent studyUpdatedEvent) {
+        invalidateIfCached(studyUpdatedEvent.getStudy());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleStudyChangedEvent(StudyChangedEvent studyChangedEvent) {
+        invalidateIfCached(studyChangedEvent.getStudy());
+    }
+
+    // 목록에 없는 스터디의 변경은 홈 화면에 영향 없음
+    private synchronized void invalidateIfCached(Study study) {
+        if (studyList == null || studyList.stream().anyMatch(cached -> cached.getId().equals(study.getId()))) {
+            invalidate();
+        }
+    }
+}
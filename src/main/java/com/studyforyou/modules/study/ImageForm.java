@@ -1,10 +1,12 @@
 package com.studyforyou.modules.study;
 
+import com.studyforyou.modules.image.ImageUpload;
 import lombok.Data;
 
 @Data
 public class ImageForm {
 
+    @ImageUpload
     private String image;
 }
 
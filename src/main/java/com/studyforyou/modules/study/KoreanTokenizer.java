@@ -0,0 +1,80 @@
+package com.studyforyou.modules.study;
+
+import java.util.HashSet;
+import java.util.Set;
+
+// 한글 음절을 초성/중성/종성으로 분해 -> 초성 문자열과 검색 색인용 n-gram 생성
+// 가 ~ 힣 : 0xAC00 + (초성 * 21 + 중성) * 28 + 종성
+final class KoreanTokenizer {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+    private static final int CHOSUNG_UNIT = 21 * 28;
+
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private KoreanTokenizer() {
+    }
+
+    static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    static char chosung(char syllable) {
+        return CHOSUNG.charAt((syllable - SYLLABLE_BEGIN) / CHOSUNG_UNIT);
+    }
+
+    // "자바 스터디" -> "ㅈㅂㅅㅌㄷ" (공백 제거, 한글이 아닌 글자는 그대로)
+    static String toChosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            builder.append(isSyllable(c) ? chosung(c) : c);
+        }
+        return builder.toString();
+    }
+
+    // "ㅈㅂ", "ㅈㅂ ㅅㅌㄷ" 처럼 초성으로만 이루어진 검색어
+    static boolean isChosungQuery(String keyword) {
+        boolean hasChosung = false;
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (CHOSUNG.indexOf(c) < 0) {
+                return false;
+            }
+            hasChosung = true;
+        }
+        return hasChosung;
+    }
+
+    // 색인 : unigram + bigram
+    static Set<String> indexGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 1 < text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    // 검색어 : 한 글자는 unigram, 그 이상은 bigram
+    static Set<String> queryGrams(String keyword) {
+        if (keyword.length() == 1) {
+            return Set.of(keyword);
+        }
+
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 1 < keyword.length(); i++) {
+            grams.add(keyword.substring(i, i + 2));
+        }
+        return grams;
+    }
+}
@@ -5,6 +5,8 @@ import com.studyforyou.modules.account.UserAccount;
 import com.studyforyou.modules.tag.Tag;
 import com.studyforyou.modules.zone.Zone;
 import lombok.*;
+import org.hibernate.annotations.Formula;
+import org.hibernate.annotations.LazyGroup;
 
 import javax.persistence.*;
 import java.net.URLEncoder;
@@ -62,13 +64,22 @@ public class Study {
     private String shortDescription;
 
     @Lob
-    @Basic(fetch = FetchType.EAGER)
+    @Basic(fetch = FetchType.LAZY) // 바이트코드 향상으로 실제 사용하는 화면에서만 조회
+    @LazyGroup("fullDescription")
     private String fullDescription;
 
     @Lob
-    @Basic(fetch = FetchType.EAGER)
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("image")
     private String image;
 
+    @Formula("(case when image is null then 0 else 1 end)") // 목록에서 image 컬럼을 읽지 않고 배너 여부만 확인
+    private boolean imageExists;
+
+    @Lob
+    @Column(insertable = false, updatable = false) // 썸네일 생성 후 update 쿼리로만 저장
+    private String imageThumbnail;
+
     private LocalDateTime publishedDateTime;
 
     private LocalDateTime closedDateTime;
@@ -0,0 +1,46 @@
+package com.studyforyou.modules.study;
+
+import com.studyforyou.modules.tag.Tag;
+import com.studyforyou.modules.zone.Zone;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+// 스터디 목록 카드 화면용 조회 모델 -> 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 담음
+// tags, zones 는 관리되지 않는 Tag, Zone 값 객체
+@Getter
+@EqualsAndHashCode(of = "id")
+public class StudyCard {
+
+    private final Long id;
+
+    private final String path;
+
+    private final String title;
+
+    private final String shortDescription;
+
+    private final int memberCount;
+
+    private final LocalDateTime publishedDateTime;
+
+    private final boolean imageExists;
+
+    private final Set<Tag> tags = new LinkedHashSet<>();
+
+    private final Set<Zone> zones = new LinkedHashSet<>();
+
+    public StudyCard(Long id, String path, String title, String shortDescription, int memberCount,
+                     LocalDateTime publishedDateTime, boolean imageExists) {
+        this.id = id;
+        this.path = path;
+        this.title = title;
+        this.shortDescription = shortDescription;
+        this.memberCount = memberCount;
+        this.publishedDateTime = publishedDateTime;
+        this.imageExists = imageExists;
+    }
+}
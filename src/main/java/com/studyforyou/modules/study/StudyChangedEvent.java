@@ -0,0 +1,12 @@
+package com.studyforyou.modules.study;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 알림 없이 검색 색인 등 조회용 데이터만 갱신하면 되는 변경 (태그, 지역, 이름, 멤버 수)
+@Getter
+@RequiredArgsConstructor
+public class StudyChangedEvent {
+
+    private final Study study;
+}
@@ -0,0 +1,54 @@
+package com.studyforyou.modules.study;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 검색 결과 keyset 페이지의 기준점 (정렬 값, id) -> 화면에는 base64 문자열로만 노출
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class StudyCursor {
+
+    private static final String PUBLISHED = "p";
+    private static final String MEMBER = "m";
+
+    private final LocalDateTime publishedDateTime;
+
+    private final Integer memberCount;
+
+    private final Long id;
+
+    public static StudyCursor of(StudyCard study, boolean orderByPublishedDateTime) {
+        return orderByPublishedDateTime
+                ? new StudyCursor(study.getPublishedDateTime(), null, study.getId())
+                : new StudyCursor(null, study.getMemberCount(), study.getId());
+    }
+
+    public static StudyCursor decode(String cursor) {
+        try {
+            String[] split = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            Long id = Long.valueOf(split[2]);
+            if (PUBLISHED.equals(split[0])) {
+                return new StudyCursor(LocalDateTime.parse(split[1]), null, id);
+            }
+            return new StudyCursor(null, Integer.valueOf(split[1]), id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 페이지 정보 입니다.", e);
+        }
+    }
+
+    public boolean isOrderByPublishedDateTime() {
+        return publishedDateTime != null;
+    }
+
+    public String encode() {
+        String value = isOrderByPublishedDateTime()
+                ? PUBLISHED + "|" + publishedDateTime + "|" + id
+                : MEMBER + "|" + memberCount + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,27 @@
+package com.studyforyou.modules.study;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class StudyCursorPage {
+
+    private final List<StudyCard> content;
+
+    private final String nextCursor;
+
+    private final String prevCursor;
+
+    private final Long approximateTotal; // 검색 색인이 준비되지 않았으면 null
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean hasPrevious() {
+        return prevCursor != null;
+    }
+}
@@ -0,0 +1,121 @@
+package com.studyforyou.modules.study;
+
+import com.studyforyou.modules.tag.Tag;
+import com.studyforyou.modules.zone.Zone;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+class StudyDocument {
+
+    // 제목 > 태그 > 지역 -> 제목만 일치해도 태그 + 지역 일치보다 높게
+    private static final int TITLE_WEIGHT = 4;
+    private static final int TAG_WEIGHT = 2;
+    private static final int ZONE_WEIGHT = 1;
+
+    private final Long id;
+
+    private final String title;
+
+    private final List<String> tagTitles;
+
+    private final List<String> zoneNames;
+
+    private final String chosungTitle;
+
+    private final List<String> chosungTagTitles;
+
+    private final List<String> chosungZoneNames;
+
+    private final List<Long> tagIds;
+
+    private final List<Long> zoneIds;
+
+    private final List<String> provinces;
+
+    private final int memberCount;
+
+    private final LocalDateTime publishedDateTime;
+
+    static StudyDocument of(Study study) {
+        String title = normalize(study.getTitle());
+        List<String> tagTitles = study.getTags().stream().map(Tag::getTitle).map(StudyDocument::normalize).collect(Collectors.toList());
+        List<String> zoneNames = study.getZones().stream().map(Zone::getLocalNameOfCity).map(StudyDocument::normalize).collect(Collectors.toList());
+
+        return new StudyDocument(study.getId(),
+                title,
+                tagTitles,
+                zoneNames,
+                KoreanTokenizer.toChosung(title),
+                toChosung(tagTitles),
+                toChosung(zoneNames),
+                study.getTags().stream().map(Tag::getId).collect(Collectors.toList()),
+                study.getZones().stream().map(Zone::getId).collect(Collectors.toList()),
+                study.getZones().stream().map(Zone::getProvince).filter(Objects::nonNull).distinct().collect(Collectors.toList()),
+                study.getMemberCount(),
+                study.getPublishedDateTime());
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    // 초성 검색어는 공백을 뺀 초성 문자열과 비교
+    static String normalizeChosung(String keyword) {
+        return KoreanTokenizer.toChosung(keyword);
+    }
+
+    // 검색어 종류(초성, 일반)에 맞춰 비교
+    boolean matchesKeyword(String keyword) {
+        String normalized = normalize(keyword);
+        return KoreanTokenizer.isChosungQuery(normalized) ? matchesChosung(normalizeChosung(normalized)) : matches(normalized);
+    }
+
+    // findByKeyword 의 containsIgnoreCase 조건과 같은 의미
+    boolean matches(String keyword) {
+        return title.contains(keyword)
+                || tagTitles.stream().anyMatch(tag -> tag.contains(keyword))
+                || zoneNames.stream().anyMatch(zone -> zone.contains(keyword));
+    }
+
+    boolean matchesChosung(String chosung) {
+        return chosungTitle.contains(chosung)
+                || chosungTagTitles.stream().anyMatch(tag -> tag.contains(chosung))
+                || chosungZoneNames.stream().anyMatch(zone -> zone.contains(chosung));
+    }
+
+    // 일치한 필드의 가중치 합, 일치하지 않으면 0
+    int fieldScore(String keyword) {
+        return fieldScore(title, tagTitles, zoneNames, keyword);
+    }
+
+    int chosungFieldScore(String chosung) {
+        return fieldScore(chosungTitle, chosungTagTitles, chosungZoneNames, chosung);
+    }
+
+    private static int fieldScore(String title, List<String> tagTitles, List<String> zoneNames, String keyword) {
+        int score = 0;
+        if (title.contains(keyword)) {
+            score += TITLE_WEIGHT;
+        }
+        if (tagTitles.stream().anyMatch(tag -> tag.contains(keyword))) {
+            score += TAG_WEIGHT;
+        }
+        if (zoneNames.stream().anyMatch(zone -> zone.contains(keyword))) {
+            score += ZONE_WEIGHT;
+        }
+        return score;
+    }
+
+    private static List<String> toChosung(List<String> texts) {
+        return texts.stream().map(KoreanTokenizer::toChosung).collect(Collectors.toList());
+    }
+}
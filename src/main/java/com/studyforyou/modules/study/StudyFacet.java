@@ -0,0 +1,15 @@
+package com.studyforyou.modules.study;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StudyFacet {
+
+    private final String value; // 필터 파라미터 값
+
+    private final String label;
+
+    private final int count;
+}
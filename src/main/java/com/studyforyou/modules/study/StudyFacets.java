@@ -0,0 +1,22 @@
+package com.studyforyou.modules.study;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 검색 결과를 태그, 지역(province), 지역(city) 별로 센 값
+@Getter
+@AllArgsConstructor
+public class StudyFacets {
+
+    private final List<StudyFacet> tags;
+
+    private final List<StudyFacet> provinces;
+
+    private final List<StudyFacet> zones;
+
+    public boolean isEmpty() {
+        return tags.isEmpty() && provinces.isEmpty() && zones.isEmpty();
+    }
+}
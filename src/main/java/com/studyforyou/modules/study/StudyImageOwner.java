@@ -0,0 +1,57 @@
+package com.studyforyou.modules.study;
+
+import com.studyforyou.modules.image.ImageOwner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 스터디 배너 이미지 -> /images/study/{id}
+@Component
+@RequiredArgsConstructor
+public class StudyImageOwner implements ImageOwner {
+
+    public static final String TYPE = "study";
+
+    private final StudyRepository studyRepository;
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public int getThumbnailWidth() {
+        return 400;
+    }
+
+    @Override
+    public int getThumbnailHeight() {
+        return 300;
+    }
+
+    @Override
+    public String findImage(Long id) {
+        return studyRepository.findImageById(id);
+    }
+
+    @Override
+    public String findThumbnail(Long id) {
+        return studyRepository.findImageThumbnailById(id);
+    }
+
+    @Override
+    public void updateImage(Long id, String image) {
+        studyRepository.findById(id).orElseThrow().setImage(image);
+    }
+
+    @Override
+    public void updateThumbnail(Long id, String thumbnail) {
+        studyRepository.updateImageThumbnail(id, thumbnail);
+    }
+
+    @Override
+    public List<Long> findIdsWithDataUriImage() {
+        return studyRepository.findIdsWithDataUriImage();
+    }
+}
@@ -0,0 +1,157 @@
+package com.studyforyou.modules.study;
+
+import com.studyforyou.modules.tag.Tag;
+import com.studyforyou.modules.zone.Zone;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 로그인 홈 화면 추천 스터디 -> 모집 중인 스터디의 태그, 지역 id 를 정렬된 배열로 들고 있다가
+// 계정의 관심 태그, 지역과 겹치는 개수 + 최신순 가산점으로 점수를 매겨 상위 n 개를 고른다
+@Component
+@RequiredArgsConstructor
+public class StudyRecommender {
+
+    private static final int TAG_WEIGHT = 2;
+    private static final int ZONE_WEIGHT = 1;
+    private static final double RECENCY_DAYS = 30.0;
+
+    private final StudyRepository studyRepository;
+
+    private final Map<Long, Candidate> candidates = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildCandidates() {
+        studyRepository.findDistinctStudyWithTagsAndZonesByPublished(true).stream()
+                .filter(study -> !study.isClosed())
+                .forEach(study -> candidates.put(study.getId(), Candidate.of(study)));
+    }
+
+    // 커밋된 뒤에 반영 -> 롤백된 태그, 지역이 추천 후보에 남지 않도록
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleStudyCreatedEvent(StudyCreatedEvent studyCreatedEvent) {
+        refresh(studyCreatedEvent.getStudy().getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleStudyUpdatedEvent(StudyUpdatedEvent studyUpdatedEvent) {
+        refresh(studyUpdatedEvent.getStudy().getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleStudyChangedEvent(StudyChangedEvent studyChangedEvent) {
+        refresh(studyChangedEvent.getStudy().getId());
+    }
+
+    public List<StudyCard> recommend(Set<Tag> tags, Set<Zone> zones, int limit) {
+        List<Long> ids = recommendIds(tags, zones, limit);
+        return ids.isEmpty() ? List.of() : studyRepository.findStudyCards(ids);
+    }
+
+    private List<Long> recommendIds(Set<Tag> tags, Set<Zone> zones, int limit) {
+        long[] tagIds = sortedIds(tags.stream().map(Tag::getId));
+        long[] zoneIds = sortedIds(zones.stream().map(Zone::getId));
+        if (tagIds.length == 0 || zoneIds.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        PriorityQueue<Scored> top = new PriorityQueue<>(Comparator.comparingDouble(Scored::getScore)); // 점수가 낮은 것부터 밀어냄
+
+        for (Candidate candidate : candidates.values()) {
+            int tagOverlap = countOverlap(candidate.tagIds, tagIds);
+            int zoneOverlap = tagOverlap == 0 ? 0 : countOverlap(candidate.zoneIds, zoneIds);
+            if (zoneOverlap == 0) { // 관심 태그, 관심 지역이 하나 이상씩 겹쳐야 추천
+                continue;
+            }
+
+            double score = tagOverlap * TAG_WEIGHT + zoneOverlap * ZONE_WEIGHT + recency(candidate.publishedDateTime, now);
+            if (top.size() < limit) {
+                top.add(new Scored(candidate.id, score));
+            } else if (top.peek().getScore() < score) {
+                top.poll();
+                top.add(new Scored(candidate.id, score));
+            }
+        }
+
+        List<Scored> result = new ArrayList<>(top);
+        result.sort(Comparator.comparingDouble(Scored::getScore).reversed().thenComparing(Scored::getId, Comparator.reverseOrder()));
+        return result.stream().map(Scored::getId).collect(Collectors.toList());
+    }
+
+    private void refresh(Long studyId) {
+        Study study = studyRepository.findZonesWithTagsById(studyId);
+
+        if (study == null || !study.isPublished() || study.isClosed()) {
+            candidates.remove(studyId);
+        } else {
+            candidates.put(studyId, Candidate.of(study));
+        }
+    }
+
+    // 0 ~ 1 : 방금 공개된 스터디는 1, RECENCY_DAYS 가 지날 때마다 절반씩 감소
+    private static double recency(LocalDateTime publishedDateTime, LocalDateTime now) {
+        if (publishedDateTime == null) {
+            return 0;
+        }
+        double days = Math.max(0, Duration.between(publishedDateTime, now).toHours() / 24.0);
+        return Math.pow(0.5, days / RECENCY_DAYS);
+    }
+
+    private static int countOverlap(long[] a, long[] b) {
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                count++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return count;
+    }
+
+    private static long[] sortedIds(Stream<Long> ids) {
+        return ids.filter(Objects::nonNull).mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+
+    @AllArgsConstructor
+    private static class Candidate {
+
+        private final Long id;
+        private final long[] tagIds;
+        private final long[] zoneIds;
+        private final LocalDateTime publishedDateTime;
+
+        static Candidate of(Study study) {
+            return new Candidate(study.getId(),
+                    sortedIds(study.getTags().stream().map(Tag::getId)),
+                    sortedIds(study.getZones().stream().map(Zone::getId)),
+                    study.getPublishedDateTime());
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Scored {
+
+        private final Long id;
+        private final double score;
+    }
+}
@@ -3,6 +3,9 @@ package com.studyforyou.modules.study;
 import com.studyforyou.modules.account.Account;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -13,6 +16,20 @@ public interface StudyRepository extends JpaRepository<Study, Long>, StudyReposi
 
     boolean existsByPath(String path);
 
+    @Query("select s.image from Study s where s.id = :id")
+    String findImageById(@Param("id") Long id);
+
+    @Query("select s.imageThumbnail from Study s where s.id = :id")
+    String findImageThumbnailById(@Param("id") Long id);
+
+    @Query("select s.id from Study s where s.image like 'data:%' or s.imageThumbnail like 'data:%'")
+    List<Long> findIdsWithDataUriImage();
+
+    @Transactional
+    @Modifying
+    @Query("update Study s set s.imageThumbnail = :thumbnail where s.id = :id")
+    int updateImageThumbnail(@Param("id") Long id, @Param("thumbnail") String thumbnail);
+
     @EntityGraph(value = "studyAllGraph", type = EntityGraph.EntityGraphType.LOAD)
     Study findByPath(String path);
 
@@ -36,6 +53,9 @@ public interface StudyRepository extends JpaRepository<Study, Long>, StudyReposi
 
     Study findOnlyByPath(String path);
 
+    @EntityGraph(attributePaths = {"zones", "tags"}, type = EntityGraph.EntityGraphType.FETCH)
+    List<Study> findDistinctStudyWithTagsAndZonesByPublished(boolean published);
+
     List<Study> findFirst5ByManagersContainingAndClosedOrderByPublishedDateTime(Account account,boolean closed);
     List<Study> findFirst5ByMembersContainingAndClosedOrderByPublishedDateTime(Account account,boolean closed);
 
@@ -1,20 +1,19 @@
 package com.studyforyou.modules.study;
 
-import com.studyforyou.modules.tag.Tag;
-import com.studyforyou.modules.zone.Zone;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Set;
 
 @Transactional(readOnly = true)
 public interface StudyRepositoryExtension {
 
-    Page<Study> findByKeyword(String keyword, Pageable pageable);
+    Page<StudyCard> findByKeyword(String keyword, Pageable pageable);
 
-    List<Study> findHomeStudyList();
+    List<StudyCard> findByKeyword(String keyword, boolean orderByPublishedDateTime, StudyCursor cursor, boolean backward, int limit);
 
-    List<Study> findByAccount(Set<Tag> tags, Set<Zone> zones);
+    List<StudyCard> findHomeStudyList();
+
+    List<StudyCard> findStudyCards(List<Long> ids);
 }
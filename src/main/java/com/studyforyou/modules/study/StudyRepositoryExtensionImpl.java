@@ -1,20 +1,23 @@
 package com.studyforyou.modules.study;
 
-import com.querydsl.core.QueryResults;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.studyforyou.modules.account.QAccount;
 import com.studyforyou.modules.tag.QTag;
 import com.studyforyou.modules.tag.Tag;
 import com.studyforyou.modules.zone.QZone;
 import com.studyforyou.modules.zone.Zone;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.data.support.PageableExecutionUtils;
 
 import javax.persistence.EntityManager;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class StudyRepositoryExtensionImpl extends QuerydslRepositorySupport implements StudyRepositoryExtension {
 
@@ -26,63 +29,124 @@ public class StudyRepositoryExtensionImpl extends QuerydslRepositorySupport impl
     }
 
     @Override
-    public Page<Study> findByKeyword(String keyword, Pageable pageable) {
+    public Page<StudyCard> findByKeyword(String keyword, Pageable pageable) {
         QStudy study = QStudy.study;
-        QZone qZone = QZone.zone;
-        QAccount qAccount = QAccount.account;
-        QTag qTag = QTag.tag;
 
-        QueryResults<Study> query = jpaQueryFactory.selectFrom(study)
-                .where(study.published.isTrue()
-                        .and(study.title.containsIgnoreCase(keyword))
-                        .or(study.tags.any().title.containsIgnoreCase(keyword))
-                        .or(study.zones.any().localNameOfCity.containsIgnoreCase(keyword)))
-                .leftJoin(study.tags, qTag).fetchJoin()
-                .leftJoin(study.zones, qZone).fetchJoin()
-                .distinct()
-                .orderBy(pageable.getSort().toString().contains("publishedDateTime") ? study.publishedDateTime.desc() : study.memberCount.desc())
+        BooleanExpression where = keywordCondition(keyword);
+
+        List<Long> ids = jpaQueryFactory.select(study.id)
+                .from(study)
+                .where(where)
+                .orderBy(pageable.getSort().toString().contains("publishedDateTime") ? study.publishedDateTime.desc() : study.memberCount.desc(),
+                        study.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .fetchResults();
+                .fetch();
+
+        return PageableExecutionUtils.getPage(findStudyCards(ids), pageable,
+                () -> jpaQueryFactory.select(study.count()).from(study).where(where).fetchOne());
+    }
 
+    @Override
+    public List<StudyCard> findByKeyword(String keyword, boolean orderByPublishedDateTime, StudyCursor cursor, boolean backward, int limit) {
+        QStudy study = QStudy.study;
+
+        BooleanBuilder where = new BooleanBuilder(keywordCondition(keyword));
+
+        if (cursor != null) { // 정렬 기준 (값, id) 보다 뒤(또는 앞)에 있는 행만 조회
+            if (orderByPublishedDateTime) {
+                where.and(backward
+                        ? study.publishedDateTime.gt(cursor.getPublishedDateTime())
+                        .or(study.publishedDateTime.eq(cursor.getPublishedDateTime()).and(study.id.gt(cursor.getId())))
+                        : study.publishedDateTime.lt(cursor.getPublishedDateTime())
+                        .or(study.publishedDateTime.eq(cursor.getPublishedDateTime()).and(study.id.lt(cursor.getId()))));
+            } else {
+                where.and(backward
+                        ? study.memberCount.gt(cursor.getMemberCount())
+                        .or(study.memberCount.eq(cursor.getMemberCount()).and(study.id.gt(cursor.getId())))
+                        : study.memberCount.lt(cursor.getMemberCount())
+                        .or(study.memberCount.eq(cursor.getMemberCount()).and(study.id.lt(cursor.getId()))));
+            }
+        }
+
+        OrderSpecifier<?> sortOrder = orderByPublishedDateTime
+                ? (backward ? study.publishedDateTime.asc() : study.publishedDateTime.desc())
+                : (backward ? study.memberCount.asc() : study.memberCount.desc());
+
+        List<Long> ids = jpaQueryFactory.select(study.id)
+                .from(study)
+                .where(where)
+                .orderBy(sortOrder, backward ? study.id.asc() : study.id.desc())
+                .limit(limit)
+                .fetch();
 
-        List<Study> content = query.getResults();
+        if (backward) {
+            Collections.reverse(ids);
+        }
 
-        return new PageImpl<>(content, pageable, query.getTotal());
+        return findStudyCards(ids);
     }
 
     @Override
-    public List<Study> findHomeStudyList() {
-
+    public List<StudyCard> findHomeStudyList() {
         QStudy study = QStudy.study;
 
-        List<Study> query = jpaQueryFactory.select(study)
+        List<Long> ids = jpaQueryFactory.select(study.id)
                 .from(study)
                 .where(study.published.isTrue().and(study.closed.isFalse()))
-                .leftJoin(study.tags, QTag.tag).fetchJoin()
-                .leftJoin(study.zones, QZone.zone).fetchJoin()
-                .distinct()
-                .orderBy(study.publishedDateTime.desc())
+                .orderBy(study.publishedDateTime.desc(), study.id.desc())
                 .limit(9)
                 .fetch();
 
-        return query;
+        return findStudyCards(ids);
     }
 
+    private BooleanExpression keywordCondition(String keyword) {
+        QStudy study = QStudy.study;
+
+        return study.published.isTrue()
+                .and(study.title.containsIgnoreCase(keyword)
+                        .or(study.tags.any().title.containsIgnoreCase(keyword))
+                        .or(study.zones.any().localNameOfCity.containsIgnoreCase(keyword)));
+    }
+
+    // 페이징은 id 로만 하고, 카드에 필요한 컬럼과 태그, 지역은 해당 id 들에 대해서만 projection 으로 조회 -> ids 순서대로 반환
     @Override
-    public List<Study> findByAccount(Set<Tag> tags, Set<Zone> zones) {
+    public List<StudyCard> findStudyCards(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
         QStudy study = QStudy.study;
+        QTag tag = QTag.tag;
+        QZone zone = QZone.zone;
 
-        List<Study> query = jpaQueryFactory.select(study).from(study)
-                .where(study.tags.any().in(tags).and(study.zones.any().in(zones))
-                        .and(study.published.isTrue().and(study.closed.isFalse())))
-                .leftJoin(study.tags, QTag.tag).fetchJoin()
-                .leftJoin(study.zones, QZone.zone).fetchJoin()
-                .limit(6)
-                .fetch();
+        Map<Long, StudyCard> studyCards = jpaQueryFactory
+                .select(Projections.constructor(StudyCard.class, study.id, study.path, study.title, study.shortDescription,
+                        study.memberCount, study.publishedDateTime, study.imageExists))
+                .from(study)
+                .where(study.id.in(ids))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(StudyCard::getId, Function.identity()));
 
-        return query;
+        jpaQueryFactory.select(study.id, Projections.constructor(Tag.class, tag.id, tag.title))
+                .from(study)
+                .join(study.tags, tag)
+                .where(study.id.in(ids))
+                .orderBy(tag.title.asc())
+                .fetch()
+                .forEach(tuple -> studyCards.get(tuple.get(study.id)).getTags().add(tuple.get(1, Tag.class)));
+
+        jpaQueryFactory.select(study.id, Projections.constructor(Zone.class, zone.id, zone.city, zone.localNameOfCity, zone.province))
+                .from(study)
+                .join(study.zones, zone)
+                .where(study.id.in(ids))
+                .orderBy(zone.localNameOfCity.asc())
+                .fetch()
+                .forEach(tuple -> studyCards.get(tuple.get(study.id)).getZones().add(tuple.get(1, Zone.class)));
 
+        return ids.stream().map(studyCards::get).filter(Objects::nonNull).collect(Collectors.toList());
     }
 
 }
@@ -0,0 +1,180 @@
+package com.studyforyou.modules.study;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// 검색 결과 페이지 캐시 (키워드, 필터, 정렬, 페이지) -> 최대 MAX_SIZE 개, 오래 안 쓴 것부터 밀어내고 TTL 이 지나면 만료
+// 스터디 이벤트가 오면 그 스터디가 결과에 있었거나, 바뀐 스터디가 키워드에 걸리는 항목만 비운다
+@Component
+@RequiredArgsConstructor
+public class StudySearchCache {
+
+    private static final int MAX_SIZE = 500;
+    private static final long TTL_NANOS = Duration.ofMinutes(5).toNanos();
+
+    private final StudyRepository studyRepository;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            if (size() > MAX_SIZE) {
+                evictionCount.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private long version;
+
+    public Page<StudyCard> getPage(String keyword, StudySearchFilter filter, Pageable pageable, Supplier<Result> loader) {
+        Key key = Key.of(keyword, filter, pageable);
+        long loadingVersion;
+
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt - System.nanoTime() > 0) {
+                hitCount.increment();
+                return entry.page;
+            }
+            if (entry != null) { // TTL 만료
+                entries.remove(key);
+                evictionCount.increment();
+            }
+            loadingVersion = version;
+        }
+
+        missCount.increment();
+        Result result = loader.get();
+
+        synchronized (this) {
+            if (version == loadingVersion) { // 조회 중에 무효화 되었으면 저장하지 않음
+                entries.put(key, new Entry(result.page, new HashSet<>(result.resultIds), System.nanoTime() + TTL_NANOS));
+            }
+        }
+        return result.page;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount.sum();
+    }
+
+    public double getHitRatio() {
+        long hit = getHitCount();
+        long total = hit + getMissCount();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void invalidateAll() {
+        version++;
+        entries.clear();
+    }
+
+    // 커밋된 뒤에 무효화 -> 커밋 전에 비우면 이전 데이터의 페이지가 TTL 동안 다시 캐시됨
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleStudyCreatedEvent(StudyCreatedEvent studyCreatedEvent) {
+        invalidate(studyCreatedEvent.getStudy().getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleStudyUpdatedEvent(StudyUpdatedEvent studyUpdatedEvent) {
+        invalidate(studyUpdatedEvent.getStudy().getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleStudyChangedEvent(StudyChangedEvent studyChangedEvent) {
+        invalidate(studyChangedEvent.getStudy().getId());
+    }
+
+    private void invalidate(Long studyId) {
+        Study study = studyRepository.findZonesWithTagsById(studyId);
+        StudyDocument document = study == null || !study.isPublished() || study.isClosed() ? null : StudyDocument.of(study);
+
+        synchronized (this) {
+            version++;
+            entries.entrySet().removeIf(cached -> {
+                boolean affected = cached.getValue().resultIds.contains(studyId)
+                        || (document != null && cached.getKey().matches(document));
+                if (affected) {
+                    invalidationCount.increment();
+                }
+                return affected;
+            });
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+
+        private final Page<StudyCard> page;
+
+        private final List<Long> resultIds; // 페이지가 아닌 검색 결과 전체
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+
+        private final Page<StudyCard> page;
+        private final Set<Long> resultIds;
+        private final long expiresAt;
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class Key {
+
+        private final String keyword;
+        private final Long tag;
+        private final Long zone;
+        private final String province;
+        private final String sort;
+        private final int page;
+        private final int size;
+
+        static Key of(String keyword, StudySearchFilter filter, Pageable pageable) {
+            return new Key(StudyDocument.normalize(keyword), filter.getTag(), filter.getZone(), filter.getProvince(),
+                    pageable.getSort().toString(), pageable.getPageNumber(), pageable.getPageSize());
+        }
+
+        boolean matches(StudyDocument document) {
+            return new StudySearchFilter(tag, zone, province).accepts(document) && document.matchesKeyword(keyword);
+        }
+    }
+}
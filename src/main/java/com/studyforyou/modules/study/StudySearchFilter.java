@@ -0,0 +1,37 @@
+package com.studyforyou.modules.study;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+// 검색 결과 좁히기 -> 태그 id, 지역 id, 지역의 province 중 지정된 조건을 모두 만족하는 스터디만
+@Getter
+@AllArgsConstructor
+public class StudySearchFilter {
+
+    private static final StudySearchFilter NONE = new StudySearchFilter(null, null, null);
+
+    private final Long tag;
+
+    private final Long zone;
+
+    private final String province;
+
+    public static StudySearchFilter none() {
+        return NONE;
+    }
+
+    public static StudySearchFilter of(Long tag, Long zone, String province) {
+        return new StudySearchFilter(tag, zone, StringUtils.hasText(province) ? province : null);
+    }
+
+    public boolean isEmpty() {
+        return tag == null && zone == null && province == null;
+    }
+
+    boolean accepts(StudyDocument document) {
+        return (tag == null || document.getTagIds().contains(tag))
+                && (zone == null || document.getZoneIds().contains(zone))
+                && (province == null || document.getProvinces().contains(province));
+    }
+}
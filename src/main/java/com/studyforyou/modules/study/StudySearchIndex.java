@@ -0,0 +1,278 @@
+package com.studyforyou.modules.study;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 공개된 스터디의 이름, 태그, 지역 이름을 n-gram 으로 색인 -> 검색 요청은 DB 를 거치지 않고 처리
+// 한 글자 키워드는 unigram, 그 이상은 bigram 교집합으로 후보를 찾은 뒤 원문으로 다시 확인
+// "ㅈㅂ" 같은 초성 검색어는 초성 문자열의 n-gram 색인에서 같은 방식으로 찾는다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudySearchIndex {
+
+    private static final double BOOST_WEIGHT = 0.49;
+    private static final int MEMBER_COUNT_SATURATION = 100;
+    private static final double RECENCY_DAYS = 30.0;
+
+    private final StudyRepository studyRepository;
+
+    private final Map<Long, StudyDocument> documents = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> chosungPostings = new ConcurrentHashMap<>();
+    private final Map<Long, String> tagLabels = new ConcurrentHashMap<>();
+    private final Map<Long, String> zoneLabels = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        List<Study> studies = studyRepository.findDistinctStudyWithTagsAndZonesByPublished(true);
+        studies.forEach(this::index);
+        ready = true;
+        log.info("스터디 검색 색인 생성 완료 : {} 건", documents.size());
+    }
+
+    // 커밋된 뒤에 반영 -> 롤백된 변경이 색인에 남거나 커밋 전 데이터를 다시 읽어 넣지 않도록
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleStudyCreatedEvent(StudyCreatedEvent studyCreatedEvent) {
+        refresh(studyCreatedEvent.getStudy().getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleStudyUpdatedEvent(StudyUpdatedEvent studyUpdatedEvent) {
+        refresh(studyUpdatedEvent.getStudy().getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleStudyChangedEvent(StudyChangedEvent studyChangedEvent) {
+        refresh(studyChangedEvent.getStudy().getId());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<Long> search(String keyword, StudySearchFilter filter, boolean orderByPublishedDateTime) {
+        return match(keyword, filter)
+                .sorted(order(orderByPublishedDateTime))
+                .map(StudyDocument::getId)
+                .collect(Collectors.toList());
+    }
+
+    // keyset 페이지 -> cursor 다음(backward 면 이전) limit 개, 화면 순서대로
+    public List<Long> search(String keyword, StudySearchFilter filter, boolean orderByPublishedDateTime,
+                             StudyCursor cursor, boolean backward, int limit) {
+        Comparator<StudyDocument> order = order(orderByPublishedDateTime);
+
+        List<Long> ids = match(keyword, filter)
+                .filter(document -> cursor == null || (backward
+                        ? compareToCursor(document, cursor, orderByPublishedDateTime) < 0
+                        : compareToCursor(document, cursor, orderByPublishedDateTime) > 0))
+                .sorted(backward ? order.reversed() : order)
+                .limit(limit)
+                .map(StudyDocument::getId)
+                .collect(Collectors.toList());
+
+        if (backward) {
+            Collections.reverse(ids);
+        }
+        return ids;
+    }
+
+    // 관련도 순 -> 후보를 한 번 훑으면서 필드 가중치 + 멤버 수, 최신순 가산점을 계산
+    public List<Long> searchByRelevance(String keyword, StudySearchFilter filter) {
+        String normalized = StudyDocument.normalize(keyword);
+        boolean chosungQuery = KoreanTokenizer.isChosungQuery(normalized);
+        String query = chosungQuery ? StudyDocument.normalizeChosung(normalized) : normalized;
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Scored> scored = new ArrayList<>();
+        for (Long id : findCandidates(chosungQuery ? chosungPostings : postings, query)) {
+            StudyDocument document = documents.get(id);
+            if (document == null || !filter.accepts(document)) {
+                continue;
+            }
+            int fieldScore = chosungQuery ? document.chosungFieldScore(query) : document.fieldScore(query);
+            if (fieldScore > 0) {
+                scored.add(new Scored(id, fieldScore + boost(document, now)));
+            }
+        }
+
+        scored.sort(Comparator.comparingDouble(Scored::getScore).reversed().thenComparing(Scored::getId, Comparator.reverseOrder()));
+        return scored.stream().map(Scored::getId).collect(Collectors.toList());
+    }
+
+    public int count(String keyword, StudySearchFilter filter) {
+        return (int) match(keyword, filter).count();
+    }
+
+    // 검색 결과를 한 번 훑으면서 태그, province, 지역 별 개수를 센다
+    public StudyFacets facets(String keyword, StudySearchFilter filter) {
+        Map<Long, Integer> tagCounts = new HashMap<>();
+        Map<String, Integer> provinceCounts = new HashMap<>();
+        Map<Long, Integer> zoneCounts = new HashMap<>();
+
+        match(keyword, filter).forEach(document -> {
+            document.getTagIds().forEach(id -> tagCounts.merge(id, 1, Integer::sum));
+            document.getProvinces().forEach(province -> provinceCounts.merge(province, 1, Integer::sum));
+            document.getZoneIds().forEach(id -> zoneCounts.merge(id, 1, Integer::sum));
+        });
+
+        return new StudyFacets(toFacets(tagCounts, tagLabels), toFacets(provinceCounts, null), toFacets(zoneCounts, zoneLabels));
+    }
+
+    public void refresh(Long studyId) {
+        Study study = studyRepository.findZonesWithTagsById(studyId);
+
+        if (study == null || !study.isPublished() || study.isClosed()) {
+            remove(studyId);
+        } else {
+            index(study);
+        }
+    }
+
+    public synchronized void remove(Long studyId) {
+        StudyDocument removed = documents.remove(studyId);
+        if (removed != null) {
+            unlink(postings, grams(removed), studyId);
+            unlink(chosungPostings, chosungGrams(removed), studyId);
+        }
+    }
+
+    private void index(Study study) {
+        study.getTags().forEach(tag -> tagLabels.put(tag.getId(), tag.getTitle()));
+        study.getZones().forEach(zone -> zoneLabels.put(zone.getId(), zone.getLocalNameOfCity()));
+        index(StudyDocument.of(study));
+    }
+
+    private synchronized void index(StudyDocument document) {
+        remove(document.getId());
+        documents.put(document.getId(), document);
+        link(postings, grams(document), document.getId());
+        link(chosungPostings, chosungGrams(document), document.getId());
+    }
+
+    private Stream<StudyDocument> match(String keyword, StudySearchFilter filter) {
+        String normalized = StudyDocument.normalize(keyword);
+
+        if (KoreanTokenizer.isChosungQuery(normalized)) {
+            String chosung = StudyDocument.normalizeChosung(normalized);
+            return findCandidates(chosungPostings, chosung).stream()
+                    .map(documents::get)
+                    .filter(document -> document != null && filter.accepts(document) && document.matchesChosung(chosung));
+        }
+
+        return findCandidates(postings, normalized).stream()
+                .map(documents::get)
+                .filter(document -> document != null && filter.accepts(document) && document.matches(normalized));
+    }
+
+    // 0 ~ 1 미만 : 필드 가중치 차이(1 이상)를 넘지 않아 같은 필드에서 일치한 스터디끼리의 순서만 바꾼다
+    private static double boost(StudyDocument document, LocalDateTime now) {
+        double member = Math.min(1, Math.log1p(document.getMemberCount()) / Math.log1p(MEMBER_COUNT_SATURATION));
+        double recency = 0;
+        if (document.getPublishedDateTime() != null) {
+            double days = Math.max(0, Duration.between(document.getPublishedDateTime(), now).toHours() / 24.0);
+            recency = Math.pow(0.5, days / RECENCY_DAYS);
+        }
+        return BOOST_WEIGHT * (member + recency);
+    }
+
+    private static <K> List<StudyFacet> toFacets(Map<K, Integer> counts, Map<K, String> labels) {
+        return counts.entrySet().stream()
+                .map(entry -> new StudyFacet(String.valueOf(entry.getKey()),
+                        labels == null ? String.valueOf(entry.getKey()) : labels.getOrDefault(entry.getKey(), String.valueOf(entry.getKey())),
+                        entry.getValue()))
+                .sorted(Comparator.comparingInt(StudyFacet::getCount).reversed().thenComparing(StudyFacet::getLabel))
+                .collect(Collectors.toList());
+    }
+
+    private static Comparator<StudyDocument> order(boolean orderByPublishedDateTime) {
+        Comparator<StudyDocument> order = orderByPublishedDateTime
+                ? Comparator.comparing(StudyDocument::getPublishedDateTime, Comparator.nullsLast(Comparator.reverseOrder()))
+                : Comparator.comparingInt(StudyDocument::getMemberCount).reversed();
+        return order.thenComparing(StudyDocument::getId, Comparator.reverseOrder());
+    }
+
+    // order 와 같은 기준으로 cursor 보다 앞이면 음수, 뒤면 양수
+    // cursor 의 스터디가 색인에 있으면 색인 값으로 비교 (DB 에 저장되며 잘린 시간 값과 어긋나지 않도록)
+    private int compareToCursor(StudyDocument document, StudyCursor cursor, boolean orderByPublishedDateTime) {
+        StudyDocument cursorDocument = documents.get(cursor.getId());
+        int result;
+        if (orderByPublishedDateTime) {
+            LocalDateTime publishedDateTime = cursorDocument != null ? cursorDocument.getPublishedDateTime() : cursor.getPublishedDateTime();
+            result = Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()).compare(document.getPublishedDateTime(), publishedDateTime);
+        } else {
+            int memberCount = cursorDocument != null ? cursorDocument.getMemberCount() : cursor.getMemberCount();
+            result = Integer.compare(memberCount, document.getMemberCount());
+        }
+        return result != 0 ? result : Long.compare(cursor.getId(), document.getId());
+    }
+
+    private static void link(Map<String, Set<Long>> postings, Set<String> grams, Long studyId) {
+        grams.forEach(gram -> postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(studyId));
+    }
+
+    private static void unlink(Map<String, Set<Long>> postings, Set<String> grams, Long studyId) {
+        grams.forEach(gram -> postings.computeIfPresent(gram, (key, ids) -> {
+            ids.remove(studyId);
+            return ids.isEmpty() ? null : ids;
+        }));
+    }
+
+    private Collection<Long> findCandidates(Map<String, Set<Long>> postings, String keyword) {
+        if (keyword.isEmpty()) {
+            return documents.keySet();
+        }
+
+        List<Set<Long>> sets = new ArrayList<>();
+        for (String gram : KoreanTokenizer.queryGrams(keyword)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return Collections.emptyList();
+            }
+            sets.add(ids);
+        }
+
+        sets.sort(Comparator.comparingInt(Set::size));
+        Set<Long> candidates = new HashSet<>(sets.get(0));
+        sets.subList(1, sets.size()).forEach(candidates::retainAll);
+        return candidates;
+    }
+
+    private Set<String> grams(StudyDocument document) {
+        Set<String> grams = new HashSet<>(KoreanTokenizer.indexGrams(document.getTitle()));
+        document.getTagTitles().forEach(tag -> grams.addAll(KoreanTokenizer.indexGrams(tag)));
+        document.getZoneNames().forEach(zone -> grams.addAll(KoreanTokenizer.indexGrams(zone)));
+        return grams;
+    }
+
+    private Set<String> chosungGrams(StudyDocument document) {
+        Set<String> grams = new HashSet<>(KoreanTokenizer.indexGrams(document.getChosungTitle()));
+        document.getChosungTagTitles().forEach(tag -> grams.addAll(KoreanTokenizer.indexGrams(tag)));
+        document.getChosungZoneNames().forEach(zone -> grams.addAll(KoreanTokenizer.indexGrams(zone)));
+        return grams;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Scored {
+
+        private final Long id;
+        private final double score;
+    }
+}
@@ -0,0 +1,104 @@
+package com.studyforyou.modules.study;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class StudySearchService {
+
+    public static final String RELEVANCE = "relevance";
+
+    private final StudyRepository studyRepository;
+    private final StudySearchIndex studySearchIndex;
+    private final StudySearchCache studySearchCache;
+
+    public Page<StudyCard> search(String keyword, StudySearchFilter filter, Pageable pageable) {
+
+        if (!studySearchIndex.isReady()) { // 색인 생성 전에는 DB 검색 (초성 검색, 필터는 지원하지 않음)
+            return studyRepository.findByKeyword(keyword, pageable);
+        }
+
+        return studySearchCache.getPage(keyword, filter, pageable, () -> {
+            List<Long> ids = isOrderByRelevance(pageable)
+                    ? studySearchIndex.searchByRelevance(keyword, filter)
+                    : studySearchIndex.search(keyword, filter, isOrderByPublishedDateTime(pageable));
+            // 큰 page 값에서 int 로 넘치지 않도록 long 으로 계산 후 결과 크기로 자름
+            int fromIndex = (int) Math.min(pageable.getOffset(), ids.size());
+            int toIndex = (int) Math.min((long) fromIndex + pageable.getPageSize(), ids.size());
+            List<Long> pageIds = ids.subList(fromIndex, toIndex);
+
+            return new StudySearchCache.Result(new PageImpl<>(findAllInOrder(pageIds), pageable, ids.size()), ids);
+        });
+    }
+
+    // offset, count 쿼리 없이 (정렬 값, id) 기준으로 다음/이전 페이지 조회
+    public StudyCursorPage searchByCursor(String keyword, StudySearchFilter filter, Pageable pageable, String after, String before) {
+        String searchKeyword = keyword == null ? "" : keyword;
+        boolean orderByPublishedDateTime = isOrderByPublishedDateTime(pageable);
+        boolean backward = before != null;
+        StudyCursor cursor = backward ? StudyCursor.decode(before) : after != null ? StudyCursor.decode(after) : null;
+
+        if (cursor != null && cursor.isOrderByPublishedDateTime() != orderByPublishedDateTime) { // 정렬이 바뀌면 첫 페이지부터
+            cursor = null;
+            backward = false;
+        }
+
+        int size = pageable.getPageSize();
+        List<StudyCard> studies = studySearchIndex.isReady()
+                ? findAllInOrder(studySearchIndex.search(searchKeyword, filter, orderByPublishedDateTime, cursor, backward, size + 1))
+                : studyRepository.findByKeyword(searchKeyword, orderByPublishedDateTime, cursor, backward, size + 1);
+
+        boolean hasMore = studies.size() > size;
+        if (hasMore) {
+            studies = backward ? studies.subList(1, size + 1) : studies.subList(0, size);
+        }
+
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!studies.isEmpty()) {
+            String first = StudyCursor.of(studies.get(0), orderByPublishedDateTime).encode();
+            String last = StudyCursor.of(studies.get(studies.size() - 1), orderByPublishedDateTime).encode();
+            nextCursor = backward || hasMore ? last : null;
+            prevCursor = backward ? (hasMore ? first : null) : (cursor != null ? first : null);
+        }
+
+        Long approximateTotal = studySearchIndex.isReady() ? (long) studySearchIndex.count(searchKeyword, filter) : null;
+
+        return new StudyCursorPage(studies, nextCursor, prevCursor, approximateTotal);
+    }
+
+    // 색인 생성 전에는 null
+    public StudyFacets facets(String keyword, StudySearchFilter filter) {
+        return studySearchIndex.isReady() ? studySearchIndex.facets(keyword == null ? "" : keyword, filter) : null;
+    }
+
+    private List<StudyCard> findAllInOrder(List<Long> ids) {
+        List<StudyCard> studies = studyRepository.findStudyCards(ids);
+
+        if (studies.size() < ids.size()) { // 이미 삭제된 스터디는 색인에서도 제거
+            Set<Long> found = studies.stream().map(StudyCard::getId).collect(Collectors.toSet());
+            ids.stream().filter(id -> !found.contains(id)).forEach(studySearchIndex::remove);
+        }
+
+        return studies;
+    }
+
+    // 관련도 순은 커서를 만들 정렬 값이 없으므로 offset 페이지로만 조회
+    public static boolean isOrderByRelevance(Pageable pageable) {
+        return pageable.getSort().getOrderFor(RELEVANCE) != null;
+    }
+
+    static boolean isOrderByPublishedDateTime(Pageable pageable) {
+        return pageable.getSort().toString().contains("publishedDateTime");
+    }
+}
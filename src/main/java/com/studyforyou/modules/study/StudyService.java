@@ -2,6 +2,8 @@ package com.studyforyou.modules.study;
 
 import com.studyforyou.modules.account.Account;
 import com.studyforyou.modules.account.UserAccount;
+import com.studyforyou.modules.image.ImageBlobService;
+import com.studyforyou.modules.image.ImageUpdatedEvent;
 import com.studyforyou.modules.tag.Tag;
 import com.studyforyou.modules.zone.Zone;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +25,7 @@ public class StudyService {
     private final StudyRepository studyRepository;
     private final ModelMapper modelMapper;
     private final ApplicationEventPublisher eventPublisher;
+    private final ImageBlobService imageBlobService;
 
 
     public void newStudy(Account account, StudyForm studyForm) {
@@ -70,7 +73,9 @@ public class StudyService {
     }
 
     public void updateBanner(Study study, ImageForm imageForm) {
-        modelMapper.map(imageForm, study);
+        study.setImage(imageBlobService.replace(study.getImage(), imageForm.getImage()));
+        eventPublisher.publishEvent(new StudyChangedEvent(study));
+        eventPublisher.publishEvent(new ImageUpdatedEvent(StudyImageOwner.TYPE, study.getId()));
     }
 
     public void enableBanner(Study study) {
@@ -100,6 +105,7 @@ public class StudyService {
 
     public void addTags(Study study, Tag tag) {
         study.getTags().add(tag);
+        eventPublisher.publishEvent(new StudyChangedEvent(study));
     }
 
     private void checkStudyNull(Study study) {
@@ -116,14 +122,17 @@ public class StudyService {
 
     public void removeTags(Study study, Tag tag) {
         study.getTags().remove(tag);
+        eventPublisher.publishEvent(new StudyChangedEvent(study));
     }
 
     public void addZone(Study study, Zone zone) {
         study.getZones().add(zone);
+        eventPublisher.publishEvent(new StudyChangedEvent(study));
     }
 
     public void removeZone(Study study, Zone zone) {
         study.getZones().remove(zone);
+        eventPublisher.publishEvent(new StudyChangedEvent(study));
     }
 
     @Transactional(readOnly = true)
@@ -190,14 +199,18 @@ public class StudyService {
 
     public void updatePath(Study study, String newPath) {
         study.setPath(URLEncoder.encode(newPath, StandardCharsets.UTF_8));
+        eventPublisher.publishEvent(new StudyChangedEvent(study));
     }
 
     public void updateTitle(Study study, String newTitle) {
         study.setTitle(newTitle);
+        eventPublisher.publishEvent(new StudyChangedEvent(study));
     }
 
     public void removeStudy(Study study) {
         if (study.isRemovable()) {
+            imageBlobService.release(study.getImage());
+            imageBlobService.release(studyRepository.findImageThumbnailById(study.getId()));
             studyRepository.delete(study);
         } else {
             throw new RuntimeException("스터디가 공개중 이므로 삭제할 수 없습니다.");
@@ -208,6 +221,7 @@ public class StudyService {
 
         if (study.isJoinable(new UserAccount(account))) {
             study.addMember(account);
+            eventPublisher.publishEvent(new StudyChangedEvent(study));
         } else {
             throw new RuntimeException("해당 스터디에 가입할 수 없습니다. ");
         }
@@ -216,6 +230,7 @@ public class StudyService {
     public void leaveStudy(Account account, Study study) {
         if (study.isMember(new UserAccount(account))) {
             study.removeMember(account);
+            eventPublisher.publishEvent(new StudyChangedEvent(study));
         } else {
             throw new RuntimeException("해당 스터디의 맴버가 아닙니다.");
         }
@@ -96,11 +96,17 @@ public class StudySettingsController {
     }
 
     @PostMapping("/banner")
-    public String updateBanner(@CurrentAccount Account account, Model model, @PathVariable String path, ImageForm imageForm) {
+    public String updateBanner(@CurrentAccount Account account, Model model, @PathVariable String path,
+                               @Valid ImageForm imageForm, BindingResult bindingResult) {
 
         Study study = studyService.getUpdateStudy(account, path);
         model.addAttribute(account);
         model.addAttribute(study);
+        if (bindingResult.hasErrors()) {
+            model.addAttribute("message", bindingResult.getFieldError("image").getDefaultMessage());
+            return STUDY + BANNER;
+        }
+
         studyService.updateBanner(study, imageForm);
         return STUDY + BANNER;
     }
@@ -0,0 +1,152 @@
+package com.studyforyou.modules.study;
+
+import com.studyforyou.modules.tag.Tag;
+import com.studyforyou.modules.tag.TagCreatedEvent;
+import com.studyforyou.modules.tag.TagRepository;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+// 검색창 자동완성 -> 모집 중인 스터디 이름과 태그 이름을 정렬된 맵으로 들고 있다가
+// 접두어 범위를 찾고 그 안에서 멤버 수가 많은 순으로 n 개를 고른다
+// 스터디 이름은 단어마다 키를 만들어 중간 단어로 시작해도 찾을 수 있게 함
+// 변경 시 바뀐 스터디의 키와 해당 태그의 키만 교체 -> 조회는 잠금 없이 진행
+@Component
+@RequiredArgsConstructor
+public class StudySuggester {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final StudyRepository studyRepository;
+    private final TagRepository tagRepository;
+
+    private final Map<Long, StudyEntry> studies = new HashMap<>(); // 변경은 synchronized 안에서만
+    private final Map<String, Integer> tagMemberCounts = new HashMap<>();
+
+    // "정규화된 키 + 구분자 + 스터디 id 또는 태그 이름" -> 같은 키의 스터디, 태그를 함께 담음
+    private final ConcurrentNavigableMap<String, StudySuggestion> keys = new ConcurrentSkipListMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildSuggestions() {
+        tagRepository.findAll().forEach(tag -> addTag(tag.getTitle()));
+        studyRepository.findDistinctStudyWithTagsAndZonesByPublished(true).stream()
+                .filter(study -> !study.isClosed())
+                .forEach(study -> replace(study.getId(), StudyEntry.of(study)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTagCreatedEvent(TagCreatedEvent tagCreatedEvent) {
+        addTag(tagCreatedEvent.getTag().getTitle());
+    }
+
+    // 커밋된 뒤에 반영 -> 롤백된 이름, 태그가 남지 않도록
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleStudyCreatedEvent(StudyCreatedEvent studyCreatedEvent) {
+        refresh(studyCreatedEvent.getStudy().getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleStudyUpdatedEvent(StudyUpdatedEvent studyUpdatedEvent) {
+        refresh(studyUpdatedEvent.getStudy().getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleStudyChangedEvent(StudyChangedEvent studyChangedEvent) {
+        refresh(studyChangedEvent.getStudy().getId());
+    }
+
+    public List<StudySuggestion> suggest(String prefix, int limit) {
+        String normalized = StudyDocument.normalize(prefix).trim();
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        PriorityQueue<StudySuggestion> top = new PriorityQueue<>(Comparator.comparingInt(StudySuggestion::getMemberCount)); // 멤버 수가 적은 것부터 밀어냄
+        Set<StudySuggestion> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (StudySuggestion suggestion : keys.subMap(normalized, true, normalized + Character.MAX_VALUE, false).values()) {
+            if (!seen.add(suggestion)) {
+                continue;
+            }
+            if (top.size() < limit) {
+                top.add(suggestion);
+            } else if (top.peek().getMemberCount() < suggestion.getMemberCount()) {
+                top.poll();
+                top.add(suggestion);
+            }
+        }
+
+        List<StudySuggestion> result = new ArrayList<>(top);
+        result.sort(Comparator.comparingInt(StudySuggestion::getMemberCount).reversed().thenComparing(StudySuggestion::getText));
+        return result;
+    }
+
+    private void refresh(Long studyId) {
+        Study study = studyRepository.findZonesWithTagsById(studyId);
+        replace(studyId, study == null || !study.isPublished() || study.isClosed() ? null : StudyEntry.of(study));
+    }
+
+    // 이전 항목의 키를 지우고 새 항목의 키를 넣음, 태그 멤버 수는 차이만큼 조정
+    private synchronized void replace(Long studyId, StudyEntry entry) {
+        StudyEntry previous = entry == null ? studies.remove(studyId) : studies.put(studyId, entry);
+
+        if (previous != null) {
+            wordKeys(previous.title).forEach(word -> keys.remove(key(word, "s" + studyId)));
+            previous.tagTitles.forEach(title -> updateTag(title, -previous.memberCount));
+        }
+        if (entry != null) {
+            StudySuggestion suggestion = new StudySuggestion(StudySuggestion.STUDY, entry.title, entry.path, entry.memberCount);
+            wordKeys(entry.title).forEach(word -> keys.put(key(word, "s" + studyId), suggestion));
+            entry.tagTitles.forEach(title -> updateTag(title, entry.memberCount));
+        }
+    }
+
+    private synchronized void addTag(String title) {
+        if (!tagMemberCounts.containsKey(title)) {
+            updateTag(title, 0);
+        }
+    }
+
+    private void updateTag(String title, int memberCountDelta) {
+        int memberCount = tagMemberCounts.merge(title, memberCountDelta, Integer::sum);
+        keys.put(key(StudyDocument.normalize(title), "t" + title), new StudySuggestion(StudySuggestion.TAG, title, null, memberCount));
+    }
+
+    private static String key(String word, String owner) {
+        return word + KEY_SEPARATOR + owner;
+    }
+
+    // "스프링 jpa 스터디" -> "스프링 jpa 스터디", "jpa 스터디", "스터디"
+    private static Set<String> wordKeys(String title) {
+        String normalized = StudyDocument.normalize(title).trim();
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            if (i == 0 || (normalized.charAt(i - 1) == ' ' && normalized.charAt(i) != ' ')) {
+                keys.add(normalized.substring(i));
+            }
+        }
+        return keys;
+    }
+
+    @AllArgsConstructor
+    private static class StudyEntry {
+
+        private final String title;
+        private final String path;
+        private final int memberCount;
+        private final Set<String> tagTitles;
+
+        static StudyEntry of(Study study) {
+            return new StudyEntry(study.getTitle(), study.getPath(), study.getMemberCount(),
+                    study.getTags().stream().map(Tag::getTitle).collect(Collectors.toSet()));
+        }
+    }
+}
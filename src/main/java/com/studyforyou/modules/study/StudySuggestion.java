@@ -0,0 +1,17 @@
+package com.studyforyou.modules.study;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StudySuggestion {
+
+    public static final String STUDY = "study";
+    public static final String TAG = "tag";
+
+    private final String type;
+    private final String text;
+    private final String path; // 스터디인 경우에만
+    private final int memberCount;
+}
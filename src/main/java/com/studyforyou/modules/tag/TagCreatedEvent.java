@@ -0,0 +1,11 @@
+package com.studyforyou.modules.tag;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class TagCreatedEvent {
+
+    private final Tag tag;
+}
@@ -1,6 +1,7 @@
 package com.studyforyou.modules.tag;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,6 +14,7 @@ import java.util.stream.Collectors;
 public class TagService {
 
     private final TagRepository tagRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Transactional(readOnly = true)
@@ -26,6 +28,7 @@ public class TagService {
 
         if (tag == null) {
             tag = tagRepository.save(Tag.builder().title(tagTitle).build());
+            eventPublisher.publishEvent(new TagCreatedEvent(tag));
         }
         return tag;
     }
@@ -65,7 +65,7 @@ public class Event {
         this.createdDateTime = LocalDateTime.now();
     }
 
-    public int remainOfEnrollments() {
+    public int numberOfRemainSpots() {
         return (limitOfEnrollments - acceptedCount());
     }
 
@@ -98,11 +98,11 @@ public class Event {
     }
 
     public boolean isAcceptable(Enrollment enrollment) {
-        return !enrollment.isAccepted() && canEnrollTime() && remainOfEnrollments() > 0 && !enrollment.isAttended();
+        return !enrollment.isAccepted() && canEnrollTime() && numberOfRemainSpots() > 0 && !enrollment.isAttended();
     }
 
     public boolean isAcceptableFCFS(Enrollment enrollment) {
-        return !enrollment.isAccepted() && canEnrollTime() && remainOfEnrollments() > 0 && isFCFS() && !enrollment.isAttended();
+        return !enrollment.isAccepted() && canEnrollTime() && numberOfRemainSpots() > 0 && isFCFS() && !enrollment.isAttended();
     }
 
     private boolean isFCFS() {
@@ -135,7 +135,7 @@ public class Event {
     public void acceptWaitingList() {
         if (canAcceptWaitingFCFS()) {
             long waitingCount = getWaitingCount();
-            int count = Integer.min((int) waitingCount, remainOfEnrollments());
+            int count = Integer.min((int) waitingCount, numberOfRemainSpots());
 
             enrollments.stream().filter(enrollment -> !enrollment.isAccepted()).limit(count).forEach(
                     enrollment -> enrollment.acceptEnroll()
@@ -149,6 +149,6 @@ public class Event {
     }
 
     private boolean canAcceptWaitingFCFS() {
-        return isFCFS() && remainOfEnrollments() > 0;
+        return isFCFS() && numberOfRemainSpots() > 0;
     }
 }
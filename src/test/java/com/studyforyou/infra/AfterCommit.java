@@ -0,0 +1,20 @@
+package com.studyforyou.infra;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+// 테스트 트랜잭션은 롤백되므로 @TransactionalEventListener (AFTER_COMMIT) 가 실행되지 않음
+// 지금까지 등록된 트랜잭션 동기화를 커밋된 것처럼 실행하고 비움
+public class AfterCommit {
+
+    public static void run() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+}
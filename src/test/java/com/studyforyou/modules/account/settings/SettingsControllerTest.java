@@ -5,6 +5,8 @@ import com.studyforyou.infra.MockMvcTest;
 import com.studyforyou.modules.account.WithAccount;
 import com.studyforyou.modules.account.AccountService;
 import com.studyforyou.modules.account.Account;
+import com.studyforyou.modules.account.AccountImageOwner;
+import com.studyforyou.modules.image.ImageBlobService;
 import com.studyforyou.modules.tag.Tag;
 import com.studyforyou.modules.zone.Zone;
 import com.studyforyou.modules.tag.TagForm;
@@ -25,6 +27,12 @@ import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -99,6 +107,42 @@ class SettingsControllerTest {
         assertEquals(byNickname.getBio() , null);
     }
 
+    @Test
+    @WithAccount("sukeun")
+    @DisplayName("프로필 수정 테스트 - 프로필 이미지")
+    void profileUpdate_image() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB), "png", out);
+        mockMvc.perform(post("/settings/profile")
+                        .param("bio", "짧은 소개")
+                        .param("profileImage", "data:image/png;base64," + Base64.getEncoder().encodeToString(out.toByteArray()))
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection());
+
+        Account sukeun = accountRepository.findByNickname("sukeun");
+        assertTrue(ImageBlobService.isReference(sukeun.getProfileImage()));
+
+        mockMvc.perform(get("/images/" + AccountImageOwner.TYPE + "/" + sukeun.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/png"))
+                .andExpect(content().bytes(out.toByteArray()));
+    }
+
+    @Test
+    @WithAccount("sukeun")
+    @DisplayName("프로필 수정 테스트 - 이미지가 아닌 프로필 이미지")
+    void profileUpdate_notImage() throws Exception {
+        String svg = "data:image/svg+xml;base64," + Base64.getEncoder().encodeToString("<svg onload=\"alert(1)\"/>".getBytes(StandardCharsets.UTF_8));
+        mockMvc.perform(post("/settings/profile")
+                        .param("bio", "짧은 소개")
+                        .param("profileImage", svg)
+                        .with(csrf()))
+                .andExpect(view().name("settings/profile"))
+                .andExpect(model().attributeHasFieldErrors("profile", "profileImage"));
+
+        assertNull(accountRepository.findByNickname("sukeun").getProfileImage());
+    }
+
 
     @Test
     @DisplayName("패스워드 수정 - 정상")
@@ -0,0 +1,163 @@
+package com.studyforyou.modules.event;
+
+import com.studyforyou.infra.MockMvcTest;
+import com.studyforyou.modules.account.Account;
+import com.studyforyou.modules.account.AccountFactory;
+import com.studyforyou.modules.account.AccountRepository;
+import com.studyforyou.modules.account.WithAccount;
+import com.studyforyou.modules.study.Study;
+import com.studyforyou.modules.study.StudyFactory;
+import com.studyforyou.modules.study.StudyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.persistence.EntityManager;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.anonymous;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@MockMvcTest
+class EventCalendarControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    EventService eventService;
+    @Autowired
+    EventFactory eventFactory;
+    @Autowired
+    StudyFactory studyFactory;
+    @Autowired
+    StudyService studyService;
+    @Autowired
+    AccountFactory accountFactory;
+    @Autowired
+    AccountRepository accountRepository;
+    @Autowired
+    CalendarFeedToken calendarFeedToken;
+    @Autowired
+    ModelMapper modelMapper;
+    @Autowired
+    EntityManager entityManager;
+
+    private Study study;
+    private Account account;
+
+    @BeforeEach
+    public void init() {
+        study = studyFactory.createStudy();
+        account = accountRepository.findByNickname("test");
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("스터디 캘린더 - 로그인 없이 조회, 바뀌지 않았으면 304, 모임 수정 시 새 ETag")
+    void studyCalendar() throws Exception {
+        studyService.studyPublish(study);
+        Event event = eventFactory.createEvent(account, study);
+        event.setTitle("스프링, 모임; 첫번째");
+        eventFactory.createEvent(account, study);
+        String url = "/study/" + study.getPath() + "/events.ics";
+
+        MvcResult mvcResult = mockMvc.perform(get(url).with(anonymous()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/calendar"))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(content().string(startsWith("BEGIN:VCALENDAR\r\n")))
+                .andExpect(content().string(containsString("SUMMARY:스프링\\, 모임\\; 첫번째\r\n")))
+                .andExpect(content().string(containsString("UID:event-" + event.getId() + "@studyforyou\r\n")))
+                .andExpect(content().string(endsWith("END:VCALENDAR\r\n")))
+                .andReturn();
+        String etag = mvcResult.getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        assertEquals(2, mvcResult.getResponse().getContentAsString().split("BEGIN:VEVENT").length - 1);
+
+        mockMvc.perform(get(url).with(anonymous()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        event.setTitle("수정된 모임");
+        eventService.updateForm(event, modelMapper.map(event, EventForm.class));
+        entityManager.flush();
+
+        mockMvc.perform(get(url).with(anonymous()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(content().string(containsString("SUMMARY:수정된 모임\r\n")));
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("스터디 캘린더 - 공개되지 않은 스터디는 조회 불가")
+    void studyCalendar_notPublished() throws Exception {
+        eventFactory.createEvent(account, study);
+
+        mockMvc.perform(get("/study/" + study.getPath() + "/events.ics"))
+                .andExpect(view().name("error"));
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("계정 캘린더 - 서명된 주소로 확정된 모임만 조회, 확정 목록이 바뀌면 새 ETag")
+    void accountCalendar() throws Exception {
+        Event accepted = eventFactory.createEvent(account, study);
+        accepted.setTitle("확정 모임");
+        eventService.enrollEvent(account, accepted);
+        Event waiting = eventFactory.createEvent(account, study);
+        waiting.setTitle("대기 모임");
+        waiting.setLimitOfEnrollments(1);
+        eventService.enrollEvent(accountFactory.createAccount(), waiting);
+        eventService.enrollEvent(account, waiting);
+        String url = "/calendar/" + calendarFeedToken.create(account) + ".ics";
+
+        MvcResult mvcResult = mockMvc.perform(get(url).with(anonymous()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("SUMMARY:확정 모임\r\n")))
+                .andExpect(content().string(not(containsString("대기 모임"))))
+                .andReturn();
+        String etag = mvcResult.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(url).with(anonymous()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        eventService.disenrollEvent(account, accepted);
+        entityManager.flush();
+
+        mockMvc.perform(get(url).with(anonymous()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(content().string(not(containsString("확정 모임"))));
+
+        mockMvc.perform(get("/calendar/" + account.getId() + ".invalid.ics"))
+                .andExpect(view().name("error"));
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("계정 캘린더 - 주소를 바꾸면 예전 주소는 조회 불가")
+    void resetAccountCalendar() throws Exception {
+        String oldUrl = "/calendar/" + calendarFeedToken.create(account) + ".ics";
+        mockMvc.perform(get(oldUrl).with(anonymous()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/calendar/reset").with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/"));
+
+        assertNotNull(account.getCalendarFeedKey());
+        mockMvc.perform(get(oldUrl))
+                .andExpect(view().name("error"));
+        mockMvc.perform(get("/calendar/" + calendarFeedToken.create(account) + ".ics").with(anonymous()))
+                .andExpect(status().isOk());
+    }
+}
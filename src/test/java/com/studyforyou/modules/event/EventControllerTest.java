@@ -5,29 +5,43 @@ import com.studyforyou.modules.account.AccountFactory;
 import com.studyforyou.modules.account.AccountRepository;
 import com.studyforyou.modules.account.WithAccount;
 import com.studyforyou.modules.account.Account;
+import com.studyforyou.modules.account.UserAccount;
 import com.studyforyou.modules.study.Study;
 import com.studyforyou.modules.study.StudyControllerTest;
 import com.studyforyou.modules.study.StudyFactory;
+import com.studyforyou.modules.study.StudyForm;
+import com.studyforyou.modules.study.StudyRepository;
+import com.studyforyou.modules.study.StudyService;
 import org.junit.jupiter.api.BeforeEach;
+import org.modelmapper.ModelMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @MockMvcTest
+@RecordApplicationEvents
 class EventControllerTest {
 
 
@@ -51,6 +65,18 @@ class EventControllerTest {
     AccountRepository accountRepository;
     @Autowired
     EventFactory eventFactory;
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    ModelMapper modelMapper;
+    @Autowired
+    ApplicationEvents applicationEvents;
+    @Autowired
+    EnrollmentCheckinToken enrollmentCheckinToken;
+    @Autowired
+    StudyService studyService;
+    @Autowired
+    StudyRepository studyRepository;
 
     private Study study;
     private Account account;
@@ -133,7 +159,7 @@ class EventControllerTest {
         createEnroll(event, 3);
 
         assertEquals(event.getEnrollments().size(), 4);
-        assertTrue(event.getWaitingList().size() == 1);
+        assertEquals(1, enrollmentRepository.countByEventAndAccepted(event, false));
 
         mockMvc.perform(post("/study/" + study.getPath() + "/events/" + event.getId() + "/disenroll")
                         .param("path", study.getPath())
@@ -142,7 +168,7 @@ class EventControllerTest {
                 .andExpect(status().is3xxRedirection());
 
         assertTrue(!enrollmentRepository.existsByEventAndAccount(event, account));
-        assertTrue(event.getWaitingList().size() == 0);
+        assertEquals(0, enrollmentRepository.countByEventAndAccepted(event, false));
     }
 
     @Test
@@ -159,7 +185,7 @@ class EventControllerTest {
         assertTrue(!enrollment.isAccepted());
 
         assertEquals(event.getEnrollments().size(), 5);
-        assertTrue(event.getWaitingList().size() == 2);
+        assertEquals(2, enrollmentRepository.countByEventAndAccepted(event, false));
 
         mockMvc.perform(post("/study/" + study.getPath() + "/events/" + event.getId() + "/disenroll")
                         .param("path", study.getPath())
@@ -168,7 +194,7 @@ class EventControllerTest {
                 .andExpect(status().is3xxRedirection());
 
         assertTrue(!enrollmentRepository.existsByEventAndAccount(event, account));
-        assertTrue(event.getWaitingList().size() == 1);
+        assertEquals(1, enrollmentRepository.countByEventAndAccepted(event, false));
     }
 
     @Test
@@ -179,10 +205,12 @@ class EventControllerTest {
         Event event = eventFactory.createEvent(account,study);
         createEnroll(event, 7); // 대기중 4
 
-        event.setLimitOfEnrollments(5);
-        event.acceptWaitingEnrollment();
+        EventForm eventForm = modelMapper.map(event, EventForm.class);
+        eventForm.setLimitOfEnrollments(5);
+        eventService.updateForm(event, eventForm);
 
-        assertEquals(event.getWaitingList().size(), 2);
+        assertEquals(2, event.getWaitingCount());
+        assertEquals(2, enrollmentRepository.countByEventAndAccepted(event, false));
     }
 
     @Test
@@ -193,10 +221,308 @@ class EventControllerTest {
         Event event = eventFactory.createEvent(account,study);
         createEnroll(event, 7); // 대기중 4
 
-        event.setLimitOfEnrollments(10);
-        event.acceptWaitingEnrollment();
+        EventForm eventForm = modelMapper.map(event, EventForm.class);
+        eventForm.setLimitOfEnrollments(10);
+        eventService.updateForm(event, eventForm);
+
+        assertEquals(0, event.getWaitingCount());
+        assertEquals(0, enrollmentRepository.countByEventAndAccepted(event, false));
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("확정, 대기 인원 - 신청, 취소, 수락, 거절 시 함께 갱신")
+    void enrollment_counts() throws Exception {
+
+        Event event = eventFactory.createEvent(account,study);
+        createEnroll(event, 4);
+        eventService.enrollEvent(account, event);
+
+        assertEquals(3, event.getAcceptedCount());
+        assertEquals(2, event.getWaitingCount());
+        assertEquals(0, event.numberOfRemainSpots());
+
+        eventService.disenrollEvent(account, event);
+        assertEquals(3, event.getAcceptedCount());
+        assertEquals(1, event.getWaitingCount());
+
+        event.setEventType(EventType.CONFIRMATIVE);
+        Enrollment accepted = enrollmentRepository.findAll().stream()
+                .filter(enrollment -> event.equals(enrollment.getEvent()) && enrollment.isAccepted())
+                .findFirst().orElseThrow();
+        eventService.rejectEnrollment(event, accepted);
+        assertEquals(2, event.getAcceptedCount());
+        assertEquals(2, event.getWaitingCount());
+
+        eventService.acceptEnrollment(event, accepted);
+        assertEquals(3, event.getAcceptedCount());
+        assertEquals(1, event.getWaitingCount());
+
+        event.setAcceptedCount(0);
+        event.setWaitingCount(0);
+        eventRepository.flush();
+        eventRepository.recalculateEnrollmentCounts();
+        entityManager.refresh(event);
+        assertEquals(3, event.getAcceptedCount());
+        assertEquals(1, event.getWaitingCount());
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("계정별 참가 신청 상태 - 신청, 취소, 체크인 후 바로 반영")
+    void enrollment_status() throws Exception {
+
+        Event event = eventFactory.createEvent(account,study);
+        createEnroll(event, 2);
+        UserAccount userAccount = new UserAccount(account);
+
+        assertTrue(event.isEnrollableFor(userAccount));
+        assertFalse(event.isDisenrollableFor(userAccount));
+
+        eventService.enrollEvent(account, event);
+        assertFalse(event.isEnrollableFor(userAccount));
+        assertTrue(event.isDisenrollableFor(userAccount));
+        assertFalse(event.isAttended(userAccount));
+
+        eventService.checkinEnrollment(event, enrollmentRepository.findByEventAndAccount(event, account));
+        assertTrue(event.isAttended(userAccount));
+        assertFalse(event.isDisenrollableFor(userAccount));
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("대기 순번 - 모임 화면에 표시, 앞선 대기자 확정 시 당겨짐")
+    void waiting_position() throws Exception {
+
+        Event event = eventFactory.createEvent(account,study);
+        createEnroll(event, 5); // 대기중 2
+        eventService.enrollEvent(account, event);
+        createEnroll(event, 1);
+
+        mockMvc.perform(get("/study/" + study.getPath() + "/events/" + event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("waitingPosition", 3L));
+
+        event.setLimitOfEnrollments(5);
+        eventService.updateForm(event, modelMapper.map(event, EventForm.class));
+
+        assertEquals(5, enrollmentRepository.countByEventAndAccepted(event, true));
+        assertEquals(2, event.getWaitingCount());
+        assertEquals(1L, eventService.getWaitingPosition(eventService.getEnrollment(event, account)));
+        assertEquals(2, enrollmentRepository.countByEventAndAccepted(event, false));
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("관리자 확인 모임 - 선택한 참가 신청 일괄 수락, 거절, 체크인 (알림 이벤트는 한 번)")
+    void batch_enrollments() throws Exception {
+
+        Event event = eventFactory.createEvent(account,study);
+        event.setEventType(EventType.CONFIRMATIVE);
+        createEnroll(event, 4);
+        List<Long> ids = event.getEnrollments().stream().map(Enrollment::getId).collect(Collectors.toList());
+        String enrollmentsUrl = "/study/" + study.getPath() + "/events/" + event.getId() + "/enrollments/";
+
+        mockMvc.perform(post(enrollmentsUrl + "accept")
+                        .param("enrollmentIds", ids.stream().map(String::valueOf).toArray(String[]::new))
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection());
+
+        assertEquals(3, enrollmentRepository.countByEventAndAccepted(event, true));
+        assertEquals(3, event.getAcceptedCount());
+        assertEquals(1, event.getWaitingCount());
+        List<StudyEventUpdatedEvent> published = applicationEvents.stream(StudyEventUpdatedEvent.class).collect(Collectors.toList());
+        assertEquals(1, published.size());
+        assertEquals(Set.copyOf(ids.subList(0, 3)), published.get(0).getEnrollmentIds());
+
+        mockMvc.perform(post(enrollmentsUrl + "reject")
+                        .param("enrollmentIds", String.valueOf(ids.get(0)), String.valueOf(ids.get(1)))
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection());
+
+        assertEquals(1, enrollmentRepository.countByEventAndAccepted(event, true));
+        assertEquals(3, event.getWaitingCount());
+
+        mockMvc.perform(post(enrollmentsUrl + "checkin")
+                        .param("enrollmentIds", ids.stream().map(String::valueOf).toArray(String[]::new))
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection());
 
-        assertEquals(event.getWaitingList().size(), 0);
+        assertEquals(List.of(ids.get(2)), event.getEnrollments().stream()
+                .filter(Enrollment::isAttended).map(Enrollment::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("관리자 확인 모임 - 관리하는 스터디 주소로 다른 스터디의 모임은 일괄 처리 불가")
+    void batch_enrollments_otherStudy() throws Exception {
+        StudyForm studyForm = new StudyForm();
+        studyForm.setTitle("다른 스터디");
+        studyForm.setShortDescription("다른 스터디");
+        studyForm.setPath("other-study");
+        studyForm.setFullDescription("다른 스터디");
+        studyService.newStudy(accountFactory.createAccount(), studyForm);
+        Study otherStudy = studyRepository.findByPath(studyForm.getPath());
+
+        Event event = eventFactory.createEvent(account, otherStudy);
+        event.setEventType(EventType.CONFIRMATIVE);
+        createEnroll(event, 2);
+        String[] ids = event.getEnrollments().stream().map(enrollment -> String.valueOf(enrollment.getId())).toArray(String[]::new);
+        String enrollmentsUrl = "/study/" + study.getPath() + "/events/" + event.getId() + "/enrollments/";
+
+        for (String action : List.of("accept", "reject", "checkin")) {
+            mockMvc.perform(post(enrollmentsUrl + action)
+                            .param("enrollmentIds", ids)
+                            .with(csrf()))
+                    .andExpect(view().name("error"));
+        }
+
+        assertEquals(0, enrollmentRepository.countByEventAndAccepted(event, true));
+        assertEquals(0, event.getAcceptedCount());
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("체크인 토큰 - 관리자만 출석 처리, 위조된 토큰은 400")
+    void checkin_token() throws Exception {
+
+        Event event = eventFactory.createEvent(account,study);
+        Account member = accountFactory.createAccount();
+        eventService.enrollEvent(member, event);
+        Enrollment enrollment = enrollmentRepository.findByEventAndAccount(event, member);
+        String token = enrollmentCheckinToken.create(enrollment.getId());
+
+        assertEquals(enrollment.getId(), enrollmentCheckinToken.verify(token));
+        assertNull(enrollmentCheckinToken.verify(enrollment.getId() + 1 + token.substring(token.indexOf('.'))));
+        assertNull(enrollmentCheckinToken.verify("invalid"));
+
+        mockMvc.perform(post("/enrollments/checkin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"token\":\"" + token + "x\"}")
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/enrollments/checkin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}")
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+
+        entityManager.refresh(enrollment);
+        assertFalse(enrollment.isAttended());
+
+        mockMvc.perform(post("/enrollments/checkin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"token\":\"" + token + "\"}")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.checkedIn").value(true));
+
+        entityManager.refresh(enrollment);
+        assertTrue(enrollment.isAttended());
+
+        // 이미 체크인된 참가 신청
+        mockMvc.perform(post("/enrollments/checkin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"token\":\"" + token + "\"}")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.checkedIn").value(false));
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("체크인 토큰 - 관리자가 아니면 출석 처리 안 됨, 본인 화면에는 토큰 표시")
+    void checkin_token_not_manager() throws Exception {
+
+        Event event = eventFactory.createEvent(account,study);
+        eventService.enrollEvent(account, event);
+        Enrollment enrollment = enrollmentRepository.findByEventAndAccount(event, account);
+
+        mockMvc.perform(get("/study/" + study.getPath() + "/events/" + event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("checkinToken", notNullValue()));
+
+        study.getManagers().remove(account);
+        entityManager.flush();
+
+        mockMvc.perform(post("/enrollments/checkin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"token\":\"" + enrollmentCheckinToken.create(enrollment.getId()) + "\"}")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.checkedIn").value(false));
+
+        entityManager.refresh(enrollment);
+        assertFalse(enrollment.isAttended());
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("모임 목록 - 새 모임은 시작 순, 지난 모임은 최근 종료 순으로 페이지 조회")
+    void event_list() throws Exception {
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 1; i <= 12; i++) {
+            Event event = eventFactory.createEvent(account, study);
+            event.setTitle("새 모임" + i);
+            event.setStartDateTime(now.plusDays(13 - i));
+            event.setEndDateTime(now.plusDays(14 - i));
+        }
+        for (int i = 1; i <= 25; i++) {
+            Event event = eventFactory.createEvent(account, study);
+            event.setTitle("지난 모임" + i);
+            event.setStartDateTime(now.minusDays(i + 1));
+            event.setEndDateTime(now.minusDays(i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        mockMvc.perform(get("/study/" + study.getPath() + "/events").param("oldPage", "1"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("study/events"))
+                .andExpect(model().attribute("newEvents", hasSize(10)))
+                .andExpect(model().attribute("newEvents", hasItem(hasProperty("title", is("새 모임12")))))
+                .andExpect(model().attribute("newEvents", not(hasItem(hasProperty("title", is("새 모임1"))))))
+                .andExpect(model().attribute("newEventPage", hasProperty("totalElements", is(12L))))
+                .andExpect(model().attribute("oldEvents", contains(hasProperty("title", is("지난 모임21")),
+                        hasProperty("title", is("지난 모임22")), hasProperty("title", is("지난 모임23")),
+                        hasProperty("title", is("지난 모임24")), hasProperty("title", is("지난 모임25")))))
+                .andExpect(model().attribute("oldEventPage", hasProperty("totalElements", is(25L))));
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("참가자 명단 CSV - 관리자만 신청 순서대로 내려받기, 수식 문자와 쉼표는 이스케이프")
+    void export_enrollments() throws Exception {
+
+        Event event = eventFactory.createEvent(account,study);
+        eventService.enrollEvent(account, event);
+        Account member = accountRepository.save(Account.builder().nickname("=SUM(1,2)").email("csv@email.com").build());
+        eventService.enrollEvent(member, event);
+        createEnroll(event, 3);
+        eventService.checkinEnrollment(event, enrollmentRepository.findByEventAndAccount(event, account));
+        String url = "/study/" + study.getPath() + "/events/" + event.getId() + "/enrollments.csv";
+
+        String csv = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Content-Disposition", containsString("event-" + event.getId() + "-enrollments.csv")))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = csv.split("\r\n");
+        assertEquals(6, lines.length);
+        assertEquals("\uFEFFnickname,email,enrolledAt,accepted,attended", lines[0]);
+        assertTrue(lines[1].startsWith("test,"));
+        assertTrue(lines[1].endsWith(",true,true"));
+        assertTrue(lines[2].startsWith("\"'=SUM(1,2)\",csv@email.com,"));
+        assertTrue(lines[5].endsWith(",false,false"));
+
+        study.getManagers().remove(account);
+        entityManager.flush();
+
+        mockMvc.perform(get(url))
+                .andExpect(view().name("error"));
     }
 
     private void createEnroll(Event event, int count) {
@@ -0,0 +1,138 @@
+package com.studyforyou.modules.event;
+
+import com.studyforyou.infra.MockMvcTest;
+import com.studyforyou.modules.account.Account;
+import com.studyforyou.modules.account.AccountFactory;
+import com.studyforyou.modules.account.AccountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@MockMvcTest
+class EventServiceTest {
+
+    private static final int ACCOUNTS = 300;
+    private static final int LIMIT = 50;
+
+    @Autowired
+    EventService eventService;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    AccountFactory accountFactory;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 각 신청이 별도 트랜잭션으로 커밋되어야 함
+    @DisplayName("선착순 모임에 동시에 참가 신청 - 모집 인원까지만 확정, 중복 신청 무시")
+    void enroll_concurrently() throws Exception {
+        Event event = eventRepository.save(Event.builder().eventType(EventType.FCFS)
+                .title("동시 신청 모임")
+                .limitOfEnrollments(LIMIT)
+                .enrollments(new ArrayList<>())
+                .createdDateTime(LocalDateTime.now())
+                .startDateTime(LocalDateTime.now().plusDays(1))
+                .endDateTime(LocalDateTime.now().plusDays(2))
+                .endEnrollmentDateTime(LocalDateTime.now().plusHours(3)).build());
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accounts.add(accountFactory.createAccount());
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < ACCOUNTS * 2; i++) { // 계정마다 두 번씩 신청
+                Account account = accounts.get(i % ACCOUNTS);
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    eventService.enrollEvent(account, event);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            assertEquals(LIMIT, enrollmentRepository.countByEventAndAccepted(event, true));
+            assertEquals(ACCOUNTS - LIMIT, enrollmentRepository.countByEventAndAccepted(event, false));
+        } finally {
+            executorService.shutdownNow();
+            eventRepository.deleteById(event.getId());
+            accountRepository.deleteAll(accounts);
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("관리자 확인 모임에서 같은 참가 신청을 동시에 수락, 거절 - 인원은 한 번만 바뀜")
+    void acceptAndRejectEnrollment_concurrently() throws Exception {
+        Event event = eventRepository.save(Event.builder().eventType(EventType.CONFIRMATIVE)
+                .title("동시 수락 모임")
+                .limitOfEnrollments(LIMIT)
+                .enrollments(new ArrayList<>())
+                .createdDateTime(LocalDateTime.now())
+                .startDateTime(LocalDateTime.now().plusDays(1))
+                .endDateTime(LocalDateTime.now().plusDays(2))
+                .endEnrollmentDateTime(LocalDateTime.now().plusHours(3)).build());
+        Account account = accountFactory.createAccount();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            eventService.enrollEvent(account, event);
+            Enrollment waiting = enrollmentRepository.findByEventAndAccount(event, account); // 요청마다 먼저 읽어둔 참가 신청
+
+            runConcurrently(executorService, () -> eventService.acceptEnrollment(event, waiting));
+            Event accepted = eventRepository.findById(event.getId()).orElseThrow();
+            assertEquals(1, accepted.getAcceptedCount());
+            assertEquals(0, accepted.getWaitingCount());
+
+            Enrollment acceptedEnrollment = enrollmentRepository.findByEventAndAccount(event, account);
+            runConcurrently(executorService, () -> eventService.rejectEnrollment(event, acceptedEnrollment));
+            Event rejected = eventRepository.findById(event.getId()).orElseThrow();
+            assertEquals(0, rejected.getAcceptedCount());
+            assertEquals(1, rejected.getWaitingCount());
+        } finally {
+            executorService.shutdownNow();
+            eventRepository.deleteById(event.getId());
+            accountRepository.delete(account);
+        }
+    }
+
+    private void runConcurrently(ExecutorService executorService, Runnable task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+                task.run();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+}
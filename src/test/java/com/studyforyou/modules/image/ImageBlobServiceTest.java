@@ -0,0 +1,165 @@
+package com.studyforyou.modules.image;
+
+import com.studyforyou.infra.MockMvcTest;
+import com.studyforyou.infra.config.AppProperties;
+import com.studyforyou.infra.image.ImageData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.imageio.ImageIO;
+import javax.persistence.EntityManager;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MockMvcTest
+class ImageBlobServiceTest {
+
+    @Autowired
+    ImageBlobService imageBlobService;
+
+    @Autowired
+    ImageBlobRepository imageBlobRepository;
+
+    @Autowired
+    AppProperties appProperties;
+
+    @Autowired
+    EntityManager entityManager;
+
+    // 크기가 다르면 내용도 다른 이미지
+    private byte[] png(int width) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(new BufferedImage(width, 1, BufferedImage.TYPE_INT_ARGB), "png", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String dataUri(String contentType, byte[] bytes) {
+        return "data:" + contentType + ";base64," + Base64.getEncoder().encodeToString(bytes);
+    }
+
+    private String dataUri(int width) {
+        return dataUri("image/png", png(width));
+    }
+
+    private Path file(String reference) {
+        String hash = reference.substring(ImageBlobService.REFERENCE_PREFIX.length());
+        return Paths.get(appProperties.getImageDir(), hash.substring(0, 2), hash);
+    }
+
+    @Test
+    @DisplayName("같은 이미지는 한 번만 저장하고 참조 수를 센다")
+    void store_deduplicate() {
+        String first = imageBlobService.store(dataUri(1));
+        String second = imageBlobService.replace(null, dataUri(1));
+
+        assertEquals(first, second);
+        entityManager.clear();
+        assertEquals(2, imageBlobRepository.findById(first.substring(ImageBlobService.REFERENCE_PREFIX.length())).orElseThrow().getReferenceCount());
+        assertTrue(Files.exists(file(first)));
+        assertArrayEquals(png(1), imageBlobService.load(first).getBytes());
+        assertEquals("image/png", imageBlobService.load(first).getContentType());
+    }
+
+    @Test
+    @DisplayName("content type 은 선언된 값이 아니라 바이트에서 읽은 값, 이미지가 아니면 저장하지 않음")
+    void store_sniffContentType() {
+        String reference = imageBlobService.store(dataUri("text/html", png(2)));
+        assertEquals("image/png", imageBlobService.load(reference).getContentType());
+
+        byte[] html = "<html><script>alert(1)</script></html>".getBytes(StandardCharsets.UTF_8);
+        assertThrows(IllegalArgumentException.class, () -> imageBlobService.store(dataUri("image/png", html)));
+        assertThrows(IllegalArgumentException.class, () -> imageBlobService.store(dataUri("image/svg+xml", html)));
+        assertThrows(IllegalArgumentException.class, () -> imageBlobService.store("data:image/png;base64,%%%"));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 각 저장이 별도 트랜잭션으로 커밋되어야 함
+    @DisplayName("같은 이미지를 동시에 처음 저장 - 행은 하나, 참조 수는 저장한 만큼")
+    void store_concurrently() throws Exception {
+        String dataUri = dataUri(7);
+        String hash = ImageData.sha256(png(7));
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    return imageBlobService.store(dataUri);
+                }));
+            }
+            start.countDown();
+            for (Future<String> future : futures) {
+                assertEquals(ImageBlobService.REFERENCE_PREFIX + hash, future.get());
+            }
+
+            assertEquals(8, imageBlobRepository.findById(hash).orElseThrow().getReferenceCount());
+        } finally {
+            executorService.shutdownNow();
+            imageBlobRepository.deleteById(hash);
+        }
+    }
+
+    @Test
+    @DisplayName("폼 값으로 교체 - 기존 참조는 그대로, 빈 값은 삭제")
+    void replace() {
+        String reference = imageBlobService.store(dataUri(3));
+
+        assertEquals(reference, imageBlobService.replace(reference, reference));
+        assertEquals(reference, imageBlobService.replace(reference, ImageBlobService.REFERENCE_PREFIX + "다른이미지"));
+        assertThrows(IllegalArgumentException.class, () -> imageBlobService.replace(reference, "<script>alert(1)</script>"));
+        assertNull(imageBlobService.replace(reference, ""));
+        entityManager.clear();
+
+        ImageBlob blob = imageBlobRepository.findById(reference.substring(ImageBlobService.REFERENCE_PREFIX.length())).orElseThrow();
+        assertEquals(0, blob.getReferenceCount());
+        assertNotNull(blob.getUnreferencedDateTime());
+    }
+
+    @Test
+    @DisplayName("참조가 없어진 지 오래된 이미지만 삭제")
+    void collectGarbage() {
+        String released = imageBlobService.store(dataUri(4));
+        String kept = imageBlobService.store(dataUri(5));
+        String recentlyReleased = imageBlobService.store(dataUri(6));
+        imageBlobService.release(released);
+        imageBlobService.release(recentlyReleased);
+        entityManager.clear();
+
+        String hash = released.substring(ImageBlobService.REFERENCE_PREFIX.length());
+        ImageBlob blob = imageBlobRepository.findById(hash).orElseThrow();
+        blob.setUnreferencedDateTime(LocalDateTime.now().minusDays(1));
+        imageBlobRepository.flush();
+
+        imageBlobService.collectGarbage();
+
+        assertFalse(imageBlobRepository.existsById(hash));
+        assertFalse(Files.exists(file(released)));
+        assertTrue(Files.exists(file(kept)));
+        assertTrue(Files.exists(file(recentlyReleased)));
+        assertNotNull(imageBlobService.load(kept));
+    }
+}
@@ -0,0 +1,176 @@
+package com.studyforyou.modules.image;
+
+import com.studyforyou.infra.MockMvcTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.anonymous;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@MockMvcTest
+class ImageControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ImageBlobService imageBlobService;
+
+    @Autowired
+    ThumbnailService thumbnailService;
+
+    @Autowired
+    TestImageOwner testImageOwner;
+
+    private byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return out.toByteArray();
+    }
+
+    private String pngDataUri(int width, int height) throws IOException {
+        return dataUri(png(width, height));
+    }
+
+    private String dataUri(byte[] bytes) {
+        return "data:image/png;base64," + Base64.getEncoder().encodeToString(bytes);
+    }
+
+    // 폼으로 이미지를 바꿀 때와 같이 저장소에 넣고 참조를 저장
+    private void updateImage(Long id, String dataUri) {
+        testImageOwner.updateImage(id, imageBlobService.replace(testImageOwner.findImage(id), dataUri));
+    }
+
+    private String url(Long id) {
+        return "/images/" + TestImageOwner.TYPE + "/" + id;
+    }
+
+    @Test
+    @DisplayName("이미지 - 바이너리 응답, ETag 가 같으면 304, 수정하면 새 ETag")
+    void image() throws Exception {
+        Long id = testImageOwner.newId();
+        updateImage(id, pngDataUri(1, 1));
+
+        MvcResult mvcResult = mockMvc.perform(get(url(id)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/png"))
+                .andExpect(content().bytes(png(1, 1)))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"))
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"))
+                .andReturn();
+        String etag = mvcResult.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(url(id)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        updateImage(id, pngDataUri(2, 2));
+
+        mvcResult = mockMvc.perform(get(url(id)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(png(2, 2)))
+                .andReturn();
+        assertNotEquals(etag, mvcResult.getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("이미지 - 없거나 모르는 종류면 404")
+    void image_notFound() throws Exception {
+        Long id = testImageOwner.newId();
+
+        mockMvc.perform(get(url(id)))
+                .andExpect(status().isNotFound());
+
+        updateImage(id, pngDataUri(8, 2));
+
+        mockMvc.perform(get("/images/unknown/" + id))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get(url(id)))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(png(8, 2)));
+    }
+
+    @Test
+    @DisplayName("로그인하지 않아도 이미지를 볼 수 있음")
+    void image_anonymous() throws Exception {
+        Long id = testImageOwner.newId();
+        updateImage(id, pngDataUri(8, 2));
+
+        mockMvc.perform(get(url(id)).with(anonymous()))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(png(8, 2)));
+
+        mockMvc.perform(get(url(id)).param("size", "thumb").with(anonymous()))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(png(8, 2)));
+    }
+
+    @Test
+    @DisplayName("저장소로 옮기기 전의 data URI - 선언된 타입이 아니라 실제 이미지 타입으로, 이미지가 아니면 404")
+    void legacyDataUri() throws Exception {
+        Long id = testImageOwner.newId();
+        testImageOwner.updateImage(id, "data:text/html;base64," + Base64.getEncoder().encodeToString(png(1, 1)));
+
+        mockMvc.perform(get(url(id)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/png"))
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"));
+
+        testImageOwner.updateImage(id, "data:text/html;base64," + Base64.getEncoder().encodeToString("<script>alert(1)</script>".getBytes(StandardCharsets.UTF_8)));
+
+        mockMvc.perform(get(url(id)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("썸네일 - 생성 전에는 원본, 생성 후에는 줄인 JPEG")
+    void thumbnail() throws Exception {
+        Long id = testImageOwner.newId();
+        updateImage(id, pngDataUri(1600, 400));
+
+        mockMvc.perform(get(url(id)).param("size", "thumb"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/png"));
+
+        thumbnailService.createThumbnail(TestImageOwner.TYPE, id);
+
+        MvcResult mvcResult = mockMvc.perform(get(url(id)).param("size", "thumb"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/jpeg"))
+                .andReturn();
+
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(mvcResult.getResponse().getContentAsByteArray()));
+        assertEquals(TestImageOwner.THUMBNAIL_WIDTH, thumbnail.getWidth());
+        assertEquals(TestImageOwner.THUMBNAIL_WIDTH / 4, thumbnail.getHeight());
+    }
+
+    @Test
+    @DisplayName("썸네일 - 픽셀 수가 너무 많으면 디코딩하지 않고 원본 유지")
+    void thumbnail_tooManyPixels() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(6000, 5000, BufferedImage.TYPE_BYTE_BINARY), "png", out); // 파일은 작고 픽셀은 3천만
+        Long id = testImageOwner.newId();
+        updateImage(id, dataUri(out.toByteArray()));
+
+        thumbnailService.createThumbnail(TestImageOwner.TYPE, id);
+
+        mockMvc.perform(get(url(id)).param("size", "thumb"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/png"))
+                .andExpect(content().bytes(out.toByteArray()));
+    }
+}
@@ -0,0 +1,76 @@
+package com.studyforyou.modules.image;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// 스터디, 계정 모듈 없이 이미지 모듈만 확인하기 위한 메모리 저장 ImageOwner -> /images/test/{id}
+@Component
+public class TestImageOwner implements ImageOwner {
+
+    public static final String TYPE = "test";
+    public static final int THUMBNAIL_WIDTH = 400;
+    public static final int THUMBNAIL_HEIGHT = 300;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, String> images = new ConcurrentHashMap<>();
+    private final Map<Long, String> thumbnails = new ConcurrentHashMap<>();
+
+    // 테스트마다 새 id -> 롤백되지 않는 메모리 값이 다른 테스트에 남지 않음
+    public Long newId() {
+        return sequence.incrementAndGet();
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public int getThumbnailWidth() {
+        return THUMBNAIL_WIDTH;
+    }
+
+    @Override
+    public int getThumbnailHeight() {
+        return THUMBNAIL_HEIGHT;
+    }
+
+    @Override
+    public String findImage(Long id) {
+        return images.get(id);
+    }
+
+    @Override
+    public String findThumbnail(Long id) {
+        return thumbnails.get(id);
+    }
+
+    @Override
+    public void updateImage(Long id, String image) {
+        put(images, id, image);
+    }
+
+    @Override
+    public void updateThumbnail(Long id, String thumbnail) {
+        put(thumbnails, id, thumbnail);
+    }
+
+    @Override
+    public List<Long> findIdsWithDataUriImage() {
+        return images.entrySet().stream().filter(entry -> entry.getValue().startsWith("data:"))
+                .map(Map.Entry::getKey).collect(Collectors.toList());
+    }
+
+    private void put(Map<Long, String> values, Long id, String value) {
+        if (value == null) {
+            values.remove(id);
+        } else {
+            values.put(id, value);
+        }
+    }
+}
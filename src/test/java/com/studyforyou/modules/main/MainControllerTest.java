@@ -0,0 +1,470 @@
+package com.studyforyou.modules.main;
+
+import com.studyforyou.infra.AfterCommit;
+import com.studyforyou.infra.MockMvcTest;
+import com.studyforyou.modules.account.Account;
+import com.studyforyou.modules.account.AccountFactory;
+import com.studyforyou.modules.account.AccountRepository;
+import com.studyforyou.modules.account.AccountService;
+import com.studyforyou.modules.account.WithAccount;
+import com.studyforyou.modules.event.Enrollment;
+import com.studyforyou.modules.event.Event;
+import com.studyforyou.modules.event.EventFactory;
+import com.studyforyou.modules.event.EventService;
+import com.studyforyou.modules.study.Study;
+import com.studyforyou.modules.study.HomeStudyListCache;
+import com.studyforyou.modules.study.StudyCard;
+import com.studyforyou.modules.study.StudyCursorPage;
+import com.studyforyou.modules.study.StudyFacet;
+import com.studyforyou.modules.study.StudyFacets;
+import com.studyforyou.modules.study.StudyForm;
+import com.studyforyou.modules.study.StudyRepository;
+import com.studyforyou.modules.study.StudySearchCache;
+import com.studyforyou.modules.study.StudySearchFilter;
+import com.studyforyou.modules.study.StudySearchIndex;
+import com.studyforyou.modules.study.StudyService;
+import com.studyforyou.modules.tag.Tag;
+import com.studyforyou.modules.tag.TagService;
+import com.studyforyou.modules.zone.Zone;
+import com.studyforyou.modules.zone.ZoneRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@MockMvcTest
+class MainControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    StudyRepository studyRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    StudyService studyService;
+
+    @Autowired
+    TagService tagService;
+
+    @Autowired
+    HomeStudyListCache homeStudyListCache;
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    ZoneRepository zoneRepository;
+
+    @Autowired
+    StudySearchCache studySearchCache;
+
+    @Autowired
+    StudySearchIndex studySearchIndex;
+
+    @Autowired
+    AccountFactory accountFactory;
+
+    @Autowired
+    EventFactory eventFactory;
+
+    @Autowired
+    EventService eventService;
+
+    @Autowired
+    EntityManager entityManager;
+
+    private Study publishStudy(String title, String tagTitle) {
+        Study study = publishStudyWithoutCommit(title, tagTitle);
+        AfterCommit.run();
+        return study;
+    }
+
+    private Study publishStudyWithoutCommit(String title, String tagTitle) {
+        StudyForm studyForm = new StudyForm();
+        studyForm.setTitle(title);
+        studyForm.setShortDescription("테스트");
+        studyForm.setPath(title.replace(" ", "-"));
+        studyForm.setFullDescription("테스트");
+        studyService.newStudy(accountRepository.findByNickname("test"), studyForm);
+
+        Study study = studyRepository.findByPath(studyForm.getPath());
+        studyService.addTags(study, tagService.getTag(tagTitle));
+        studyService.studyPublish(study);
+        return study;
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("스터디 검색 - 이름, 태그로 검색")
+    void searchStudy() throws Exception {
+        Study study = publishStudy("색인검색 스터디", "색인태그");
+
+        assertEquals(1, searchResult("색인검색").getTotalElements());
+        assertEquals(study.getId(), searchResult("색인검색").getContent().get(0).getId());
+        assertEquals(1, searchResult("색인태").getTotalElements());
+        assertEquals(0, searchResult("색인없음").getTotalElements());
+
+        MvcResult mvcResult = mockMvc.perform(get("/search/study").param("keyword", "색인검색")
+                        .param("page", String.valueOf(Integer.MAX_VALUE)))
+                .andExpect(status().isOk())
+                .andReturn();
+        Page<?> studyPage = (Page<?>) mvcResult.getModelAndView().getModel().get("studyPage");
+        assertTrue(studyPage.getContent().isEmpty());
+        assertEquals(1, studyPage.getTotalElements());
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("스터디 검색 - 커밋된 뒤에 색인에 반영하고 캐시 무효화")
+    void searchStudy_afterCommit() throws Exception {
+        Study study = publishStudyWithoutCommit("커밋검색 스터디", "커밋태그");
+
+        assertEquals(List.of(), studySearchIndex.search("커밋검색", StudySearchFilter.none(), true));
+        assertEquals(0, searchResult("커밋검색").getTotalElements()); // 빈 결과가 캐시됨
+
+        AfterCommit.run();
+
+        assertEquals(ids(study), studySearchIndex.search("커밋검색", StudySearchFilter.none(), true));
+        assertEquals(ids(study), ids(searchResult("커밋검색").getContent()));
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("스터디 검색 - 초성으로 검색")
+    void searchStudy_chosung() throws Exception {
+        Study study = publishStudy("초성검색 자바", "초성태그");
+
+        assertEquals(ids(study), ids(searchResult("ㅊㅅㄱㅅ").getContent()));
+        assertEquals(ids(study), ids(searchResult("ㅊㅅㄱㅅ ㅈㅂ").getContent()));
+        assertEquals(ids(study), ids(searchResult("ㅊㅅㅌ").getContent()));
+        assertEquals(0, searchResult("ㅊㅅㄱㅅㅈㅈ").getTotalElements());
+
+        StudyCursorPage cursorPage = cursorResult(get("/search/study").param("keyword", "ㅊㅅㄱㅅ").param("mode", "cursor"));
+        assertEquals(ids(study), ids(cursorPage.getContent()));
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("스터디 검색 - 관련도 순 (제목 > 태그)")
+    void searchStudy_relevance() throws Exception {
+        Study tagMatch = publishStudy("관련도 태그일치", "순위검색");
+        Study titleMatch = publishStudy("순위검색 제목일치", "관련도태그");
+        Study bothMatch = publishStudy("순위검색 둘다일치", "순위검색태그");
+
+        MvcResult mvcResult = mockMvc.perform(get("/search/study").param("keyword", "순위검색")
+                        .param("sort", "relevance,desc").param("mode", "cursor"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("sortProperty", "relevance"))
+                .andReturn();
+
+        Page<?> studyPage = (Page<?>) mvcResult.getModelAndView().getModel().get("studyPage");
+        assertEquals(ids(bothMatch, titleMatch, tagMatch), ids(studyPage.getContent()));
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("스터디 검색 - 태그, 지역별 개수와 필터")
+    void searchStudy_facets() throws Exception {
+        Zone zone = zoneRepository.findAll().get(0);
+        Tag tag = tagService.getTag("패싯태그2");
+        Study first = publishStudy("패싯검색 1", "패싯태그1");
+        Study second = publishStudy("패싯검색 2", "패싯태그1");
+        studyService.addTags(second, tag);
+        studyService.addZone(second, zone);
+        AfterCommit.run();
+
+        MvcResult mvcResult = mockMvc.perform(get("/search/study").param("keyword", "패싯검색"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        StudyFacets facets = (StudyFacets) mvcResult.getModelAndView().getModel().get("studyFacets");
+        assertEquals(List.of("패싯태그1:2", "패싯태그2:1"), facetCounts(facets.getTags()));
+        assertEquals(List.of(zone.getLocalNameOfCity() + ":1"), facetCounts(facets.getZones()));
+        assertEquals(List.of(zone.getProvince() + ":1"), facetCounts(facets.getProvinces()));
+
+        mvcResult = mockMvc.perform(get("/search/study").param("keyword", "패싯검색").param("tag", tag.getId().toString()))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertEquals(ids(second), ids(((Page<?>) mvcResult.getModelAndView().getModel().get("studyPage")).getContent()));
+        facets = (StudyFacets) mvcResult.getModelAndView().getModel().get("studyFacets");
+        assertEquals(List.of("패싯태그1:1", "패싯태그2:1"), facetCounts(facets.getTags()));
+
+        StudyCursorPage cursorPage = cursorResult(get("/search/study").param("keyword", "패싯검색")
+                .param("mode", "cursor").param("province", zone.getProvince()));
+        assertEquals(ids(second), ids(cursorPage.getContent()));
+        assertFalse(ids(cursorPage.getContent()).contains(first.getId()));
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("스터디 검색 - 결과 캐시, 영향 받는 항목만 무효화")
+    void searchStudy_cache() throws Exception {
+        Study first = publishStudy("캐시검색 1", "캐시태그");
+        long hitCount = studySearchCache.getHitCount();
+        long missCount = studySearchCache.getMissCount();
+
+        assertEquals(ids(first), ids(searchResult("캐시검색").getContent()));
+        assertEquals(ids(first), ids(searchResult("캐시검색").getContent()));
+        assertEquals(missCount + 1, studySearchCache.getMissCount());
+        assertEquals(hitCount + 1, studySearchCache.getHitCount());
+
+        publishStudy("상관없는 스터디", "상관없는태그");
+        searchResult("캐시검색");
+        assertEquals(hitCount + 2, studySearchCache.getHitCount());
+
+        Study second = publishStudy("캐시검색 2", "캐시태그");
+        assertEquals(ids(second, first), ids(searchResult("캐시검색").getContent()));
+        assertEquals(missCount + 2, studySearchCache.getMissCount());
+
+        studyService.studyClose(first);
+        AfterCommit.run();
+        assertEquals(ids(second), ids(searchResult("캐시검색").getContent()));
+        assertEquals(missCount + 3, studySearchCache.getMissCount());
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("스터디 검색 - 종료된 스터디는 검색되지 않음")
+    void searchStudy_closed() throws Exception {
+        Study study = publishStudy("종료검색 스터디", "종료태그");
+        assertEquals(1, searchResult("종료검색").getTotalElements());
+
+        studyService.studyClose(study);
+        AfterCommit.run();
+
+        assertEquals(0, searchResult("종료검색").getTotalElements());
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("스터디 검색 - 커서 페이지")
+    void searchStudy_cursor() throws Exception {
+        Study first = publishStudy("커서검색 1", "커서태그");
+        Study second = publishStudy("커서검색 2", "커서태그");
+        Study third = publishStudy("커서검색 3", "커서태그");
+
+        StudyCursorPage firstPage = cursorResult(get("/search/study").param("keyword", "커서검색")
+                .param("mode", "cursor").param("size", "2"));
+        assertEquals(ids(third, second), ids(firstPage.getContent()));
+        assertEquals(3L, firstPage.getApproximateTotal());
+        assertFalse(firstPage.hasPrevious());
+        assertTrue(firstPage.hasNext());
+
+        StudyCursorPage secondPage = cursorResult(get("/search/study").param("keyword", "커서검색")
+                .param("after", firstPage.getNextCursor()).param("size", "2"));
+        assertEquals(ids(first), ids(secondPage.getContent()));
+        assertFalse(secondPage.hasNext());
+        assertTrue(secondPage.hasPrevious());
+
+        StudyCursorPage previousPage = cursorResult(get("/search/study").param("keyword", "커서검색")
+                .param("before", secondPage.getPrevCursor()).param("size", "2"));
+        assertEquals(ids(third, second), ids(previousPage.getContent()));
+        assertFalse(previousPage.hasPrevious());
+    }
+
+    @Test
+    @DisplayName("비로그인 홈 화면 - 스터디 목록 캐시, 스터디 공개 시 갱신")
+    void home_studyListCache() throws Exception {
+        accountRepository.save(Account.builder().nickname("test").email("test@email.com").build());
+        homeStudyListCache.invalidate();
+        long hitCount = homeStudyListCache.getHitCount();
+        long missCount = homeStudyListCache.getMissCount();
+
+        mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("index"));
+        mockMvc.perform(get("/"))
+                .andExpect(status().isOk());
+
+        assertEquals(missCount + 1, homeStudyListCache.getMissCount());
+        assertEquals(hitCount + 1, homeStudyListCache.getHitCount());
+
+        Study study = publishStudyWithoutCommit("홈화면 스터디", "홈태그");
+        mockMvc.perform(get("/"))
+                .andExpect(status().isOk());
+        assertEquals(hitCount + 2, homeStudyListCache.getHitCount()); // 커밋 전에는 무효화하지 않음
+
+        AfterCommit.run();
+
+        MvcResult mvcResult = mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertEquals(missCount + 2, homeStudyListCache.getMissCount());
+        assertTrue(ids((List<?>) mvcResult.getModelAndView().getModel().get("studyList")).contains(study.getId()));
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("로그인 홈 화면 - 본인의 끝나지 않은 확정 모임만 조회, 전체 참가 신청이 늘어도 읽는 신청 수는 같음")
+    void home_upcomingEnrollments() throws Exception {
+        Account account = accountRepository.findByNickname("test");
+        Study study = publishStudy("홈 모임 스터디", "홈모임태그");
+
+        Event upcoming = eventFactory.createEvent(account, study);
+        eventService.enrollEvent(account, upcoming);
+        Event past = eventFactory.createEvent(account, study);
+        eventService.enrollEvent(account, past);
+        past.setStartDateTime(LocalDateTime.now().minusDays(2));
+        past.setEndDateTime(LocalDateTime.now().minusDays(1));
+        enrollOthers(upcoming, 3);
+        entityManager.flush();
+        entityManager.clear();
+
+        long loadCount = homeEnrollmentLoadCount(upcoming);
+
+        for (int i = 0; i < 5; i++) {
+            Event other = eventFactory.createEvent(account, study);
+            enrollOthers(other, 3);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(loadCount, homeEnrollmentLoadCount(upcoming));
+    }
+
+    private void enrollOthers(Event event, int count) {
+        for (int i = 0; i < count; i++) {
+            eventService.enrollEvent(accountFactory.createAccount(), event);
+        }
+    }
+
+    private long homeEnrollmentLoadCount(Event upcoming) throws Exception {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        MvcResult mvcResult = mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("index-after-login"))
+                .andReturn();
+
+        List<?> enrollmentList = (List<?>) mvcResult.getModelAndView().getModel().get("enrollmentList");
+        assertEquals(1, enrollmentList.size());
+        assertEquals(upcoming.getId(), ((Enrollment) enrollmentList.get(0)).getEvent().getId());
+
+        long loadCount = statistics.getEntityStatistics(Enrollment.class.getName()).getLoadCount();
+        statistics.setStatisticsEnabled(false);
+        return loadCount;
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("로그인 홈 화면 - 관심 태그, 지역이 겹치는 스터디 추천")
+    void home_recommendStudies() throws Exception {
+        Account account = accountRepository.findByNickname("test");
+        Tag tag = tagService.getTag("추천태그");
+        Zone zone = zoneRepository.findAll().get(0);
+        accountService.addTag(account, tag);
+        accountService.addZone(account, zone);
+
+        Study recommended = publishStudy("추천 스터디", "추천태그");
+        Study tagOnly = publishStudy("태그만 같은 스터디", "추천태그");
+        studyService.addZone(recommended, zone);
+
+        List<?> studyList = recommendedStudies();
+        assertFalse(ids(studyList).contains(recommended.getId())); // 커밋 전 지역 추가는 반영 안 됨
+
+        AfterCommit.run();
+
+        studyList = recommendedStudies();
+        assertTrue(ids(studyList).contains(recommended.getId()));
+        assertFalse(ids(studyList).contains(tagOnly.getId()));
+    }
+
+    private List<?> recommendedStudies() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("index-after-login"))
+                .andReturn();
+
+        return (List<?>) mvcResult.getModelAndView().getModel().get("studyList");
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("검색어 자동완성 - 스터디 이름, 태그 접두어")
+    void suggest() throws Exception {
+        Study study = publishStudy("자동완성 스프링유일", "자동완성태그");
+        tagService.getTag("자동완성신규");
+        AfterCommit.run();
+
+        mockMvc.perform(get("/search/suggest").param("prefix", "자동완성"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[*].text", containsInAnyOrder("자동완성 스프링유일", "자동완성태그", "자동완성신규")));
+
+        mockMvc.perform(get("/search/suggest").param("prefix", "스프링유").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].type").value("study"))
+                .andExpect(jsonPath("$[0].path").value("자동완성-스프링유일"));
+
+        mockMvc.perform(get("/search/suggest").param("prefix", "완성"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+        studyService.studyClose(study);
+        mockMvc.perform(get("/search/suggest").param("prefix", "스프링유"))
+                .andExpect(jsonPath("$", hasSize(1))); // 커밋 전에는 그대로
+
+        AfterCommit.run();
+        mockMvc.perform(get("/search/suggest").param("prefix", "자동완성"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].text", containsInAnyOrder("자동완성태그", "자동완성신규")))
+                .andExpect(jsonPath("$[?(@.text == '자동완성태그')].memberCount").value(0));
+    }
+
+    private List<Long> ids(Study... studies) {
+        return Arrays.stream(studies).map(Study::getId).collect(Collectors.toList());
+    }
+
+    private List<Long> ids(List<?> studyCards) {
+        return studyCards.stream().map(studyCard -> ((StudyCard) studyCard).getId()).collect(Collectors.toList());
+    }
+
+    private List<String> facetCounts(List<StudyFacet> facets) {
+        return facets.stream().map(facet -> facet.getLabel() + ":" + facet.getCount()).collect(Collectors.toList());
+    }
+
+    private StudyCursorPage cursorResult(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult mvcResult = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(view().name("list"))
+                .andReturn();
+
+        return (StudyCursorPage) mvcResult.getModelAndView().getModel().get("studyCursorPage");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Page<StudyCard> searchResult(String keyword) throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get("/search/study").param("keyword", keyword))
+                .andExpect(status().isOk())
+                .andExpect(view().name("list"))
+                .andExpect(model().attributeExists("studyPage"))
+                .andReturn();
+
+        return (Page<StudyCard>) mvcResult.getModelAndView().getModel().get("studyPage");
+    }
+}
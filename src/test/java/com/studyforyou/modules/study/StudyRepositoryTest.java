@@ -0,0 +1,142 @@
+package com.studyforyou.modules.study;
+
+import com.studyforyou.infra.MockMvcTest;
+import com.studyforyou.modules.tag.Tag;
+import com.studyforyou.modules.tag.TagService;
+import com.studyforyou.modules.zone.Zone;
+import com.studyforyou.modules.zone.ZoneRepository;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// application-test.properties 의 fail_on_pagination_over_collection_fetch 설정으로
+// 컬렉션 fetch join 과 limit/offset 을 같이 쓰면 (HHH000104) 쿼리 실행 시 예외가 발생한다.
+@MockMvcTest
+class StudyRepositoryTest {
+
+    @Autowired
+    StudyRepository studyRepository;
+
+    @Autowired
+    ZoneRepository zoneRepository;
+
+    @Autowired
+    TagService tagService;
+
+    @Autowired
+    EntityManager entityManager;
+
+    Set<Tag> tags;
+    Set<Zone> zones;
+
+    @BeforeEach
+    void beforeEach() {
+        tags = Set.of(tagService.getTag("페이징"), tagService.getTag("JPA"));
+        zones = new HashSet<>(zoneRepository.findAll(PageRequest.of(0, 2)).getContent());
+
+        for (int i = 0; i < 12; i++) {
+            studyRepository.save(Study.builder()
+                    .path("paging-" + i)
+                    .title("페이징 스터디 " + i)
+                    .fullDescription("긴 상세 소개 " + i)
+                    .image("blob:" + i)
+                    .published(true)
+                    .publishedDateTime(LocalDateTime.now().minusMinutes(i))
+                    .managers(new HashSet<>())
+                    .members(new HashSet<>())
+                    .tags(new HashSet<>(tags))
+                    .zones(new HashSet<>(zones))
+                    .build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("키워드 검색 - id 페이징 후 태그, 지역 조회")
+    void findByKeyword() {
+        Page<StudyCard> page = studyRepository.findByKeyword("페이징 스터디",
+                PageRequest.of(1, 9, Sort.by(Sort.Direction.DESC, "publishedDateTime")));
+
+        assertEquals(12, page.getTotalElements());
+        assertEquals(3, page.getContent().size());
+        assertEquals("페이징 스터디 9", page.getContent().get(0).getTitle());
+        assertLoadedWithTagsAndZones(page.getContent());
+    }
+
+    @Test
+    @DisplayName("홈 화면 스터디 목록 - id 페이징 후 태그, 지역 조회")
+    void findHomeStudyList() {
+        List<StudyCard> studies = studyRepository.findHomeStudyList();
+
+        assertEquals(9, studies.size());
+        assertEquals("페이징 스터디 0", studies.get(0).getTitle());
+        assertLoadedWithTagsAndZones(studies);
+    }
+
+    @Test
+    @DisplayName("목록, 스터디 조회 시 상세 소개와 배너 이미지는 실제 사용할 때 조회")
+    void lazyLargeColumns() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        Study study = studyRepository.findStudyWithMangersByPath("paging-0");
+        long queryCount = statistics.getPrepareStatementCount();
+
+        assertFalse(Hibernate.isPropertyInitialized(study, "fullDescription"));
+        assertFalse(Hibernate.isPropertyInitialized(study, "image"));
+        assertTrue(study.isImageExists());
+
+        assertEquals("긴 상세 소개 0", study.getFullDescription());
+        assertEquals(queryCount + 1, statistics.getPrepareStatementCount());
+        assertFalse(Hibernate.isPropertyInitialized(study, "image"));
+
+        assertEquals("blob:0", study.getImage());
+        assertEquals(queryCount + 2, statistics.getPrepareStatementCount());
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("스터디 카드 목록 - 엔티티를 영속성 컨텍스트에 올리지 않고 id 조회 후 3번의 쿼리로 조회")
+    void findStudyCards() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<StudyCard> studies = studyRepository.findHomeStudyList();
+
+        assertEquals(4, statistics.getPrepareStatementCount()); // id 조회 + 카드, 태그, 지역
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+        assertTrue(studies.get(0).isImageExists());
+        assertEquals("paging-0", studies.get(0).getPath());
+        assertLoadedWithTagsAndZones(studies);
+        statistics.setStatisticsEnabled(false);
+    }
+
+    private void assertLoadedWithTagsAndZones(List<StudyCard> studies) {
+        studies.forEach(study -> {
+            assertTrue(Hibernate.isInitialized(study.getTags()));
+            assertTrue(Hibernate.isInitialized(study.getZones()));
+            assertEquals(tags, study.getTags());
+            assertEquals(zones, study.getZones());
+        });
+    }
+}
@@ -1,6 +1,7 @@
 package com.studyforyou.modules.study;
 
 import com.studyforyou.modules.account.WithAccount;
+import com.studyforyou.modules.image.ImageBlobService;
 import com.studyforyou.modules.tag.Tag;
 import com.studyforyou.modules.tag.TagForm;
 import com.studyforyou.modules.tag.TagRepository;
@@ -16,9 +17,14 @@ import org.springframework.transaction.annotation.Transactional;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
 
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -87,15 +93,42 @@ class StudySettingsControllerTest extends StudyControllerTest {
     void updateBanner() throws Exception {
         mockMvc.perform(post(SettingURL(study.getPath()) + "/banner")
                         .with(csrf())
-                        .param("image", "image"))
+                        .param("image", pngDataUri()))
                 .andExpect(status().isOk())
                 .andExpect(model().attributeExists("account"))
                 .andExpect(model().attributeExists("study"))
                 .andExpect(view().name("study/banner"));
 
 
-        assertTrue(!study.getImage().isEmpty());
+        assertTrue(ImageBlobService.isReference(study.getImage()));
 
+        mockMvc.perform(get("/images/" + StudyImageOwner.TYPE + "/" + study.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/png"));
+    }
+
+    @Test
+    @WithAccount("test")
+    @DisplayName("배너 이미지 변경하기 - PNG, JPEG, GIF 가 아니면 저장하지 않음")
+    void updateBanner_notImage() throws Exception {
+        String html = "data:image/png;base64," + Base64.getEncoder().encodeToString("<script>alert(1)</script>".getBytes(StandardCharsets.UTF_8));
+
+        for (String image : new String[]{"image", html, "data:text/html;base64,PHNjcmlwdD4="}) {
+            mockMvc.perform(post(SettingURL(study.getPath()) + "/banner")
+                            .with(csrf())
+                            .param("image", image))
+                    .andExpect(status().isOk())
+                    .andExpect(model().attribute("message", ImageBlobService.UNSUPPORTED_IMAGE))
+                    .andExpect(view().name("study/banner"));
+        }
+
+        assertNull(study.getImage());
+    }
+
+    private String pngDataUri() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(4, 4, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return "data:image/png;base64," + Base64.getEncoder().encodeToString(out.toByteArray());
     }
 
     @Test